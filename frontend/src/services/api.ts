@@ -1,5 +1,5 @@
 import axios from 'axios';
-import { Animal, Caretaker, Habitat, LoginRequest, RegisterRequest, User, DashboardStats, AuthResponse } from '../types/models';
+import { Animal, Caretaker, Habitat, LoginRequest, RegisterRequest, User, DashboardStats, DashboardData, AuthResponse, AnimalSearchHit, AnimalSuggestions, SearchPage, AnimalQuery, CursorPage, AnimalSummary, HabitatSummary, CaretakerSummary, HealthReading, HealthSummary, AuditEvent } from '../types/models';
 
 const API_URL = 'http://localhost:8080/api';
 
@@ -38,6 +38,24 @@ export const animalsAPI = {
     const response = await api.get<Animal[]>('/animals');
     return response.data;
   },
+  // Only the fields list views show; the heavy ones are never read from the database
+  getSummaries: async () => {
+    const response = await api.get<AnimalSummary[]>('/animals', { params: { fields: 'summary' } });
+    return response.data;
+  },
+  query: async (query: AnimalQuery) => {
+    // Repeat list parameters (species=a&species=b) rather than using axios' bracket syntax
+    const response = await api.get<CursorPage<Animal>>('/animals/query', { params: query, paramsSerializer: { indexes: null } });
+    return response.data;
+  },
+  search: async (q: string, page = 0, limit?: number) => {
+    const response = await api.get<SearchPage<AnimalSearchHit>>('/animals/search', { params: { q, page, limit } });
+    return response.data;
+  },
+  suggest: async (prefix: string, limit?: number) => {
+    const response = await api.get<AnimalSuggestions>('/animals/suggest', { params: { prefix, limit } });
+    return response.data;
+  },
   getByCaretakerId: async (caretakerId: string) => {
     const response = await api.get<Animal[]>(`/animals/caretaker/${caretakerId}`);
     return response.data;
@@ -59,12 +77,34 @@ export const animalsAPI = {
   }
 };
 
+// Health observations API
+export const observationsAPI = {
+  record: async (animalId: string, reading: Omit<HealthReading, 'recordedBy'>) => {
+    const response = await api.post<HealthReading>(`/animals/${animalId}/observations`, reading);
+    return response.data;
+  },
+  list: async (animalId: string, from?: string, to?: string, limit?: number) => {
+    const response = await api.get<HealthReading[]>(`/animals/${animalId}/observations`, { params: { from, to, limit } });
+    return response.data;
+  },
+  // interval is an ISO-8601 duration such as 'PT1H' or 'P1D'
+  summary: async (animalId: string, from?: string, to?: string, interval?: string) => {
+    const response = await api.get<HealthSummary[]>(`/animals/${animalId}/observations/summary`, { params: { from, to, interval } });
+    return response.data;
+  }
+};
+
 // Habitats API
 export const habitatsAPI = {
   getAll: async () => {
     const response = await api.get<Habitat[]>('/habitats');
     return response.data;
   },
+  // Only the fields list views show; the heavy ones are never read from the database
+  getSummaries: async () => {
+    const response = await api.get<HabitatSummary[]>('/habitats', { params: { fields: 'summary' } });
+    return response.data;
+  },
   getById: async (id: string) => {
     const response = await api.get<Habitat>(`/habitats/${id}`);
     return response.data;
@@ -88,6 +128,11 @@ export const caretakersAPI = {
     const response = await api.get<Caretaker[]>('/caretakers');
     return response.data;
   },
+  // Only the fields list views show; the heavy ones are never read from the database
+  getSummaries: async () => {
+    const response = await api.get<CaretakerSummary[]>('/caretakers', { params: { fields: 'summary' } });
+    return response.data;
+  },
   getByUserId: async (userId: string) => {
     const response = await api.get<Caretaker>(`/caretakers/user/${userId}`);
     return response.data;
@@ -109,11 +154,24 @@ export const caretakersAPI = {
   }
 };
 
+// Audit API
+export const auditAPI = {
+  // Newest first; pass the previous page's nextCursor to page further back
+  getHistory: async (entityType: AuditEvent['entityType'], entityId: string, cursor?: string, limit?: number) => {
+    const response = await api.get<CursorPage<AuditEvent>>(`/audit/${entityType}/${entityId}`, { params: { cursor, limit } });
+    return response.data;
+  }
+};
+
 // Dashboard API
 export const dashboardAPI = {
   getStatistics: async () => {
     const response = await api.get<DashboardStats>('/home/statistics');
     return response.data;
+  },
+  getDashboard: async () => {
+    const response = await api.get<DashboardData>('/home/dashboard');
+    return response.data;
   }
 };
 
@@ -12,10 +12,84 @@ export interface Animal {
   habitatId: string;
   dateOfBirth: string;
   healthStatus: string;
+  healthStatusAt?: string | null;
   caretakerId: string;
   description: string;
 }
 
+export interface AnimalSearchHit {
+  animal: Animal;
+  score: number;
+}
+
+export type AnimalSummary = Pick<Animal, 'id' | 'name' | 'species' | 'healthStatus' | 'habitatId' | 'caretakerId'>;
+
+export type HabitatSummary = Pick<Habitat, 'id' | 'name' | 'type' | 'climate' | 'area' | 'capacity' | 'occupancy'>;
+
+export type CaretakerSummary = Pick<Caretaker, 'id' | 'name' | 'email' | 'specialization'>;
+
+export interface AnimalQuery {
+  species?: string[];
+  healthStatus?: string[];
+  habitatId?: string;
+  caretakerId?: string;
+  bornFrom?: string;
+  bornTo?: string;
+  sort?: 'id' | '-id' | 'name' | '-name' | 'dateOfBirth' | '-dateOfBirth';
+  limit?: number;
+  after?: string;
+}
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  limit: number;
+}
+
+export interface AnimalSuggestions {
+  names: string[];
+  species: string[];
+}
+
+export interface HealthReading {
+  at?: string;
+  weight?: number;
+  temperature?: number;
+  healthStatus?: string;
+  notes?: string;
+  recordedBy?: string;
+}
+
+export interface HealthVital {
+  min: number;
+  max: number;
+  avg: number;
+}
+
+export interface HealthSummary {
+  start: string;
+  count: number;
+  weight: HealthVital | null;
+  temperature: HealthVital | null;
+}
+
+export interface AuditEvent {
+  id: string;
+  entityType: 'animal' | 'habitat' | 'caretaker' | 'user';
+  entityId: string | null;
+  changeType: 'CREATED' | 'UPDATED' | 'DELETED';
+  actor: string | null;
+  at: string;
+}
+
+export interface SearchPage<T> {
+  query: string;
+  items: T[];
+  page: number;
+  limit: number;
+  hasNext: boolean;
+}
+
 export interface Habitat {
   id: string;
   name: string;
@@ -24,6 +98,8 @@ export interface Habitat {
   area: number;
   climate: string;
   animalIds: string[];
+  capacity?: number | null;
+  readonly occupancy?: number;
 }
 
 export interface Caretaker {
@@ -52,6 +128,20 @@ export interface DashboardStats {
   totalAnimals: number;
   totalHabitats: number;
   totalCaretakers: number;
+  totalHabitatArea: number;
+  animalsBySpecies: Record<string, number>;
+  animalsByHealthStatus: Record<string, number>;
+  animalsByHabitat: Record<string, number>;
+  caretakersBySpecialization: Record<string, number>;
+}
+
+export interface DashboardData {
+  statistics: Partial<DashboardStats>;
+  habitats: CursorPage<Habitat> | null;
+  animals: CursorPage<Animal> | null;
+  caretakers: CursorPage<Caretaker> | null;
+  partial: boolean;
+  unavailable: string[];
 }
 
 export interface AuthResponse {
@@ -0,0 +1,66 @@
+package com.ooad.wildlifeSanctuary.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}) next to
+ * JSON for request and response bodies, for integration clients that would rather not pay
+ * for text encoding. The mappers come from Boot's builder so they share the JSON mapper's
+ * modules and {@code spring.jackson.*} settings.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new CBORFactory()).build();
+    }
+
+    static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new SmileFactory()).build();
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet {
+        // Picked up by Boot's HttpMessageConverters in place of Spring MVC's unconfigured defaults
+        @Bean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(cborMapper(builder));
+        }
+
+        @Bean
+        public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(smileMapper(builder));
+        }
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive {
+        @Bean
+        public CodecCustomizer binaryFormatsCodecCustomizer(Jackson2ObjectMapperBuilder cborBuilder,
+                                                            Jackson2ObjectMapperBuilder smileBuilder) {
+            ObjectMapper cbor = cborMapper(cborBuilder);
+            ObjectMapper smile = smileMapper(smileBuilder);
+            return configurer -> {
+                configurer.customCodecs().register(new Jackson2CborEncoder(cbor));
+                configurer.customCodecs().register(new Jackson2CborDecoder(cbor));
+                configurer.customCodecs().register(new Jackson2SmileEncoder(smile));
+                configurer.customCodecs().register(new Jackson2SmileDecoder(smile));
+            };
+        }
+    }
+}
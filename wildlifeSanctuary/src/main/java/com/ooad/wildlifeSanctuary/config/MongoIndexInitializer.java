@@ -0,0 +1,73 @@
+package com.ooad.wildlifeSanctuary.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the indexes declared on the entity classes at startup, before requests are
+ * served. RepositoryQueryPlansTest checks that every repository query is served by one.
+ */
+@Component
+public class MongoIndexInitializer implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(MongoIndexInitializer.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    @Value("${app.mongo.ensure-indexes:true}")
+    private boolean ensureIndexes;
+
+    // Runs before the web server starts, so no request can write ahead of the unique indexes
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (ensureIndexes) {
+            ensureDeclaredIndexes();
+        }
+    }
+
+    /**
+     * Usernames and emails are kept unique by their unique indexes alone, so failing to
+     * create one of those stops startup. A missing ordinary index only costs performance
+     * and is logged.
+     */
+    public void ensureDeclaredIndexes() {
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+        List<String> missingUniqueIndexes = new ArrayList<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+            for (IndexDefinition index : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (RuntimeException e) {
+                    String name = entity.getCollection() + "." + index.getIndexOptions().get("name");
+                    if (Boolean.TRUE.equals(index.getIndexOptions().get("unique"))) {
+                        missingUniqueIndexes.add(name);
+                    }
+                    log.warn("Could not ensure MongoDB index {}: {}", name, e.getMessage());
+                }
+            }
+        }
+        if (!missingUniqueIndexes.isEmpty()) {
+            throw new IllegalStateException("Could not create unique indexes " + missingUniqueIndexes);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.ooad.wildlifeSanctuary.config;
 
+import com.ooad.wildlifeSanctuary.security.MeteredPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,9 +10,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class PasswordConfig {
-    
+
+    // BCrypt log rounds; every +1 doubles the cost of a login
+    @Value("${app.security.bcrypt.strength:10}")
+    private int strength;
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new MeteredPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry);
     }
-} 
\ No newline at end of file
+}
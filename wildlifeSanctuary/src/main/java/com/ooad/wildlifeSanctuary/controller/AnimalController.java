@@ -1,28 +1,95 @@
 package com.ooad.wildlifeSanctuary.controller;
 
+import com.ooad.wildlifeSanctuary.dto.AnimalSearchHit;
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
+import com.ooad.wildlifeSanctuary.dto.SearchPage;
 import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.repository.AnimalFilter;
 import com.ooad.wildlifeSanctuary.service.AnimalService;
+import com.ooad.wildlifeSanctuary.service.FieldSelection;
+import com.ooad.wildlifeSanctuary.service.FieldSelections;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/animals")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AnimalController {
     @Autowired
     private AnimalService animalService;
 
+    @Autowired
+    private CachedResponses cachedResponses;
+
+    @Autowired
+    private FieldSelections fieldSelections;
+
     @GetMapping
-    public ResponseEntity<List<Animal>> getAllAnimals() {
-        return ResponseEntity.ok(animalService.getAllAnimals());
+    public ResponseEntity<byte[]> getAllAnimals(@RequestParam(required = false) Integer limit,
+                                                @RequestParam(required = false) String after,
+                                                @RequestParam(required = false) String fields,
+                                                ServletWebRequest request) {
+        FieldSelection<Animal> selection = fieldSelections.parse(Animal.class, fields);
+        return cachedResponses.respond(request, List.of(Animal.class), () -> limit != null || after != null
+                ? animalService.getAnimalsPage(after, limit, selection)
+                : animalService.getAllAnimals(selection));
+    }
+
+    @GetMapping("/query")
+    public ResponseEntity<byte[]> queryAnimals(@RequestParam(required = false) List<String> species,
+                                               @RequestParam(required = false) List<String> healthStatus,
+                                               @RequestParam(required = false) String habitatId,
+                                               @RequestParam(required = false) String caretakerId,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo,
+                                               @RequestParam(required = false) String sort,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) String after,
+                                               @RequestParam(required = false) String fields,
+                                               ServletWebRequest request) {
+        AnimalFilter filter = new AnimalFilter(species, healthStatus, habitatId, caretakerId, bornFrom, bornTo);
+        FieldSelection<Animal> selection = fieldSelections.parse(Animal.class, fields);
+        return cachedResponses.respond(request, List.of(Animal.class),
+                () -> animalService.queryAnimals(filter, sort, after, limit, selection));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchPage<AnimalSearchHit>> searchAnimals(@RequestParam String q,
+                                                                     @RequestParam(required = false) Integer page,
+                                                                     @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(animalService.searchAnimals(q, page, limit));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<Map<String, List<String>>> suggest(@RequestParam String prefix,
+                                                             @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(animalService.suggest(prefix, limit));
+    }
+
+    @PostMapping("/suggest/rebuild")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Map<String, Object>> rebuildSuggestions() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("terms", animalService.rebuildSuggestions());
+        return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Animal> getAnimalById(@PathVariable String id) {
+    public ResponseEntity<Object> getAnimalById(@PathVariable String id,
+                                                @RequestParam(required = false) String fields) {
+        FieldSelection<Animal> selection = fieldSelections.parse(Animal.class, fields);
         return animalService.getAnimalById(id)
+                .map(selection::shape)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -39,6 +106,14 @@ public class AnimalController {
         return ResponseEntity.ok(animalService.updateAnimal(id, animal));
     }
 
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Animal> patchAnimal(@PathVariable String id, @RequestBody Map<String, Object> changes) {
+        return animalService.patchAnimal(id, changes)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<Void> deleteAnimal(@PathVariable String id) {
@@ -46,13 +121,64 @@ public class AnimalController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BatchResult> createAnimals(@RequestBody List<Animal> animals,
+                                                     @RequestParam(defaultValue = "true") boolean ordered) {
+        return ResponseEntity.ok(animalService.createAnimals(animals, ordered));
+    }
+
+    @PutMapping("/batch")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BatchResult> updateAnimals(@RequestBody List<Animal> animals,
+                                                     @RequestParam(defaultValue = "true") boolean ordered) {
+        return ResponseEntity.ok(animalService.updateAnimals(animals, ordered));
+    }
+
+    @PostMapping("/reassign/habitat")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Map<String, Object>> reassignHabitat(@RequestParam String from,
+                                                               @RequestParam String to,
+                                                               @RequestParam(required = false) String species) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("fromHabitatId", from);
+        response.put("toHabitatId", to);
+        response.put("moved", animalService.reassignHabitat(from, to, species));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/reassign/caretaker")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Map<String, Object>> reassignCaretaker(@RequestParam String from,
+                                                                 @RequestParam String to) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("fromCaretakerId", from);
+        response.put("toCaretakerId", to);
+        response.put("moved", animalService.reassignCaretaker(from, to));
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/habitat/{habitatId}")
-    public ResponseEntity<List<Animal>> getAnimalsByHabitat(@PathVariable String habitatId) {
-        return ResponseEntity.ok(animalService.getAnimalsByHabitat(habitatId));
+    public ResponseEntity<?> getAnimalsByHabitat(@PathVariable String habitatId,
+                                                 @RequestParam(required = false) Integer limit,
+                                                 @RequestParam(required = false) String after,
+                                                 @RequestParam(required = false) String fields) {
+        FieldSelection<Animal> selection = fieldSelections.parse(Animal.class, fields);
+        if (limit != null || after != null) {
+            return ResponseEntity.ok(animalService.getAnimalsByHabitatPage(habitatId, after, limit, selection));
+        }
+        return ResponseEntity.ok(animalService.getAnimalsByHabitat(habitatId, selection));
     }
 
     @GetMapping("/caretaker/{caretakerId}")
-    public ResponseEntity<List<Animal>> getAnimalsByCaretaker(@PathVariable String caretakerId) {
-        return ResponseEntity.ok(animalService.getAnimalsByCaretaker(caretakerId));
+    public ResponseEntity<?> getAnimalsByCaretaker(@PathVariable String caretakerId,
+                                                   @RequestParam(required = false) Integer limit,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(required = false) String fields) {
+        FieldSelection<Animal> selection = fieldSelections.parse(Animal.class, fields);
+        if (limit != null || after != null) {
+            return ResponseEntity.ok(animalService.getAnimalsByCaretakerPage(caretakerId, after, limit, selection));
+        }
+        return ResponseEntity.ok(animalService.getAnimalsByCaretaker(caretakerId, selection));
     }
 } 
\ No newline at end of file
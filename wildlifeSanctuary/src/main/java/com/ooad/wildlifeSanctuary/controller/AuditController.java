@@ -0,0 +1,27 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.AuditEvent;
+import com.ooad.wildlifeSanctuary.service.AuditLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/audit")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AuditController {
+    @Autowired
+    private AuditLog auditLog;
+
+    @GetMapping("/{entityType}/{entityId}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<CursorPage<AuditEvent>> getHistory(@PathVariable String entityType,
+                                                             @PathVariable String entityId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(auditLog.getHistory(entityType, entityId, cursor, limit));
+    }
+}
@@ -0,0 +1,136 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ooad.wildlifeSanctuary.service.EntityVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Serves read-mostly list endpoints from serialized bytes cached per URL, format and entity
+ * versions. The ETag is derived from the versions and the format alone, so a poll carrying
+ * a current {@code If-None-Match} is answered 304 without touching Mongo, Jackson or the
+ * cache. Bodies are written as JSON, CBOR or Smile depending on {@code Accept}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CachedResponses {
+    static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Autowired
+    private EntityVersions entityVersions;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // The binary formats' mappers are taken from their message converters, when registered
+    @Autowired(required = false)
+    private List<AbstractJackson2HttpMessageConverter> jacksonConverters = List.of();
+
+    @Value("${app.http.response-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    private Cache<String, byte[]> bodies;
+    // Formats in order of preference when the client accepts several equally
+    private final Map<MediaType, ObjectMapper> writers = new LinkedHashMap<>();
+
+    @PostConstruct
+    void init() {
+        writers.put(MediaType.APPLICATION_JSON, objectMapper);
+        for (MediaType binary : List.of(MediaType.APPLICATION_CBOR, SMILE)) {
+            for (AbstractJackson2HttpMessageConverter converter : jacksonConverters) {
+                if (converter.getSupportedMediaTypes().contains(binary)) {
+                    writers.putIfAbsent(binary, converter.getObjectMapper());
+                }
+            }
+        }
+        bodies = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, byte[] body) -> body.length)
+                .build();
+    }
+
+    /**
+     * @param dependsOn the entity types whose data the response is built from
+     * @param loader    builds the response body; only called when no current bytes are cached
+     * @return the response, a 406 when no supported format is acceptable, or null when a 304
+     * has already been set on the request
+     */
+    public ResponseEntity<byte[]> respond(ServletWebRequest request, List<Class<?>> dependsOn, Supplier<?> loader) {
+        MediaType format = negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (format == null) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        // Versions are read before loading: a write racing the load files its bytes under the old version
+        String etag = etag(dependsOn, format);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        String query = request.getRequest().getQueryString();
+        String key = request.getRequest().getRequestURI() + (query == null ? "" : "?" + query) + "|" + etag;
+        byte[] body = bodies.get(key, k -> serialize(writers.get(format), loader.get()));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format)
+                .body(body);
+    }
+
+    private MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> acceptable = MediaType.parseMediaTypes(accept);
+        MediaType.sortBySpecificityAndQuality(acceptable);
+        for (MediaType candidate : acceptable) {
+            if (candidate.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType format : writers.keySet()) {
+                if (candidate.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Each format is a different representation, so it gets its own tag; JSON keeps the bare one
+    private String etag(List<Class<?>> dependsOn, MediaType format) {
+        StringJoiner etag = new StringJoiner("-", "\"", "\"");
+        for (Class<?> entityType : dependsOn) {
+            etag.add(Long.toString(entityVersions.current(entityType), 36));
+        }
+        if (!MediaType.APPLICATION_JSON.equals(format)) {
+            etag.add(format.getSubtype());
+        }
+        return etag.toString();
+    }
+
+    private byte[] serialize(ObjectMapper writer, Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response", e);
+        }
+    }
+}
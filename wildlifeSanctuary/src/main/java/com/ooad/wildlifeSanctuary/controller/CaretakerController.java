@@ -1,26 +1,44 @@
 package com.ooad.wildlifeSanctuary.controller;
 
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
 import com.ooad.wildlifeSanctuary.model.Caretaker;
 import com.ooad.wildlifeSanctuary.service.CaretakerService;
+import com.ooad.wildlifeSanctuary.service.FieldSelection;
+import com.ooad.wildlifeSanctuary.service.FieldSelections;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/caretakers")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CaretakerController {
 
     @Autowired
     private CaretakerService caretakerService;
 
+    @Autowired
+    private CachedResponses cachedResponses;
+
+    @Autowired
+    private FieldSelections fieldSelections;
+
     @GetMapping
     @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
-    public ResponseEntity<List<Caretaker>> getAllCaretakers() {
-        List<Caretaker> caretakers = caretakerService.getAllCaretakers();
-        return ResponseEntity.ok(caretakers);
+    public ResponseEntity<byte[]> getAllCaretakers(@RequestParam(required = false) Integer limit,
+                                                   @RequestParam(required = false) String after,
+                                                   @RequestParam(required = false) String fields,
+                                                   ServletWebRequest request) {
+        FieldSelection<Caretaker> selection = fieldSelections.parse(Caretaker.class, fields);
+        return cachedResponses.respond(request, List.of(Caretaker.class), () -> limit != null || after != null
+                ? caretakerService.getCaretakersPage(after, limit, selection)
+                : caretakerService.getAllCaretakers(selection));
     }
 
     @PostMapping
@@ -32,8 +50,11 @@ public class CaretakerController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
-    public ResponseEntity<Caretaker> getCaretakerById(@PathVariable String id) {
+    public ResponseEntity<Object> getCaretakerById(@PathVariable String id,
+                                                   @RequestParam(required = false) String fields) {
+        FieldSelection<Caretaker> selection = fieldSelections.parse(Caretaker.class, fields);
         return caretakerService.getCaretakerById(id)
+                .map(selection::shape)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -46,6 +67,14 @@ public class CaretakerController {
         return ResponseEntity.ok(updatedCaretaker);
     }
 
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<Caretaker> patchCaretaker(@PathVariable String id, @RequestBody Map<String, Object> changes) {
+        return caretakerService.patchCaretaker(id, changes)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
     public ResponseEntity<Void> deleteCaretaker(@PathVariable String id) {
@@ -53,12 +82,28 @@ public class CaretakerController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<BatchResult> createCaretakers(@RequestBody List<Caretaker> caretakers,
+                                                        @RequestParam(defaultValue = "true") boolean ordered) {
+        return ResponseEntity.ok(caretakerService.createCaretakers(caretakers, ordered));
+    }
+
+    @PutMapping("/batch")
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    public ResponseEntity<BatchResult> updateCaretakers(@RequestBody List<Caretaker> caretakers,
+                                                        @RequestParam(defaultValue = "true") boolean ordered) {
+        return ResponseEntity.ok(caretakerService.updateCaretakers(caretakers, ordered));
+    }
+
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
-    public ResponseEntity<Caretaker> getCaretakerByUserId(@PathVariable String userId) {
+    public ResponseEntity<Object> getCaretakerByUserId(@PathVariable String userId,
+                                                       @RequestParam(required = false) String fields) {
+        FieldSelection<Caretaker> selection = fieldSelections.parse(Caretaker.class, fields);
         Caretaker caretaker = caretakerService.getCaretakerByUserId(userId);
         if (caretaker != null) {
-            return ResponseEntity.ok(caretaker);
+            return ResponseEntity.ok(selection.shape(caretaker));
         }
         return ResponseEntity.notFound().build();
     }
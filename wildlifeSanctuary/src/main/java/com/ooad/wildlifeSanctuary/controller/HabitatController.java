@@ -1,28 +1,51 @@
 package com.ooad.wildlifeSanctuary.controller;
 
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
+import com.ooad.wildlifeSanctuary.model.Animal;
 import com.ooad.wildlifeSanctuary.model.Habitat;
 import com.ooad.wildlifeSanctuary.service.HabitatService;
+import com.ooad.wildlifeSanctuary.service.FieldSelection;
+import com.ooad.wildlifeSanctuary.service.FieldSelections;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/habitats")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class HabitatController {
     @Autowired
     private HabitatService habitatService;
 
+    @Autowired
+    private CachedResponses cachedResponses;
+
+    @Autowired
+    private FieldSelections fieldSelections;
+
     @GetMapping
-    public ResponseEntity<List<Habitat>> getAllHabitats() {
-        return ResponseEntity.ok(habitatService.getAllHabitats());
+    public ResponseEntity<byte[]> getAllHabitats(@RequestParam(required = false) Integer limit,
+                                                 @RequestParam(required = false) String after,
+                                                 @RequestParam(required = false) String fields,
+                                                 ServletWebRequest request) {
+        FieldSelection<Habitat> selection = fieldSelections.parse(Habitat.class, fields);
+        return cachedResponses.respond(request, List.of(Habitat.class), () -> limit != null || after != null
+                ? habitatService.getHabitatsPage(after, limit, selection)
+                : habitatService.getAllHabitats(selection));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Habitat> getHabitatById(@PathVariable String id) {
+    public ResponseEntity<Object> getHabitatById(@PathVariable String id,
+                                                 @RequestParam(required = false) String fields) {
+        FieldSelection<Habitat> selection = fieldSelections.parse(Habitat.class, fields);
         return habitatService.getHabitatById(id)
+                .map(selection::shape)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -39,6 +62,14 @@ public class HabitatController {
         return ResponseEntity.ok(habitatService.updateHabitat(id, habitat));
     }
 
+    @PatchMapping("/{id}")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Habitat> patchHabitat(@PathVariable String id, @RequestBody Map<String, Object> changes) {
+        return habitatService.patchHabitat(id, changes)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<Void> deleteHabitat(@PathVariable String id) {
@@ -46,8 +77,32 @@ public class HabitatController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BatchResult> createHabitats(@RequestBody List<Habitat> habitats,
+                                                      @RequestParam(defaultValue = "true") boolean ordered) {
+        return ResponseEntity.ok(habitatService.createHabitats(habitats, ordered));
+    }
+
+    @PutMapping("/batch")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BatchResult> updateHabitats(@RequestBody List<Habitat> habitats,
+                                                      @RequestParam(defaultValue = "true") boolean ordered) {
+        return ResponseEntity.ok(habitatService.updateHabitats(habitats, ordered));
+    }
+
+    @PostMapping("/occupancy/recount")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<Void> recountOccupancy() {
+        habitatService.recountOccupancy();
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/with-animals")
-    public ResponseEntity<List<Habitat>> getHabitatsWithAnimals() {
-        return ResponseEntity.ok(habitatService.getHabitatsWithAnimals());
+    public ResponseEntity<byte[]> getHabitatsWithAnimals(@RequestParam(required = false) String fields,
+                                                         ServletWebRequest request) {
+        FieldSelection<Habitat> selection = fieldSelections.parse(Habitat.class, fields);
+        return cachedResponses.respond(request, List.of(Habitat.class, Animal.class),
+                () -> habitatService.getHabitatsWithAnimals(selection));
     }
 } 
\ No newline at end of file
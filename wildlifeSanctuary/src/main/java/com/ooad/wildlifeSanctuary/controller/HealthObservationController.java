@@ -0,0 +1,51 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.ooad.wildlifeSanctuary.dto.HealthSummary;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+import com.ooad.wildlifeSanctuary.service.HealthObservationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/animals/{animalId}/observations")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class HealthObservationController {
+    @Autowired
+    private HealthObservationService observationService;
+
+    @PostMapping
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public ResponseEntity<HealthReading> recordObservation(@PathVariable String animalId,
+                                                           @RequestBody HealthReading reading,
+                                                           Authentication authentication) {
+        return observationService.record(animalId, reading, authentication.getName())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public ResponseEntity<List<HealthReading>> getObservations(@PathVariable String animalId,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                               @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(observationService.getReadings(animalId, from, to, limit));
+    }
+
+    @GetMapping("/summary")
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public ResponseEntity<List<HealthSummary>> summarizeObservations(@PathVariable String animalId,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+                                                                     @RequestParam(required = false) String interval) {
+        return ResponseEntity.ok(observationService.summarize(animalId, from, to, interval));
+    }
+}
@@ -1,37 +1,35 @@
 package com.ooad.wildlifeSanctuary.controller;
 
-import com.ooad.wildlifeSanctuary.service.AnimalService;
-import com.ooad.wildlifeSanctuary.service.HabitatService;
-import com.ooad.wildlifeSanctuary.service.CaretakerService;
+import com.ooad.wildlifeSanctuary.service.DashboardService;
+import com.ooad.wildlifeSanctuary.service.StatisticsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/home")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class HomeController {
     @Autowired
-    private AnimalService animalService;
+    private StatisticsService statisticsService;
 
     @Autowired
-    private HabitatService habitatService;
-
-    @Autowired
-    private CaretakerService caretakerService;
+    private DashboardService dashboardService;
 
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
-        
-        statistics.put("totalAnimals", animalService.getAllAnimals().size());
-        statistics.put("totalHabitats", habitatService.getAllHabitats().size());
-        statistics.put("totalCaretakers", caretakerService.getAllCaretakers().size());
-        
-        return ResponseEntity.ok(statistics);
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public ResponseEntity<Map<String, Object>> getDashboard() {
+        return ResponseEntity.ok(dashboardService.getDashboard());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.service.ReactiveReadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read endpoints of AnimalController for the reactive serving mode; writes stay on servlet nodes.
+// Lists are written element by element when the client accepts application/x-ndjson.
+@RestController
+@RequestMapping("/api/animals")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAnimalController {
+    @Autowired
+    private ReactiveReadService readService;
+
+    @GetMapping(params = {"!limit", "!after"})
+    public Flux<Animal> getAllAnimals() {
+        return readService.getAllAnimals();
+    }
+
+    @GetMapping
+    public Mono<CursorPage<Animal>> getAnimalsPage(@RequestParam(required = false) Integer limit,
+                                                   @RequestParam(required = false) String after) {
+        return readService.getAnimalsPage(after, limit);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Animal>> getAnimalById(@PathVariable String id) {
+        return readService.getAnimalById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/habitat/{habitatId}", params = {"!limit", "!after"})
+    public Flux<Animal> getAnimalsByHabitat(@PathVariable String habitatId) {
+        return readService.getAnimalsByHabitat(habitatId);
+    }
+
+    @GetMapping("/habitat/{habitatId}")
+    public Mono<CursorPage<Animal>> getAnimalsByHabitatPage(@PathVariable String habitatId,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(required = false) String after) {
+        return readService.getAnimalsByHabitatPage(habitatId, after, limit);
+    }
+
+    @GetMapping(value = "/caretaker/{caretakerId}", params = {"!limit", "!after"})
+    public Flux<Animal> getAnimalsByCaretaker(@PathVariable String caretakerId) {
+        return readService.getAnimalsByCaretaker(caretakerId);
+    }
+
+    @GetMapping("/caretaker/{caretakerId}")
+    public Mono<CursorPage<Animal>> getAnimalsByCaretakerPage(@PathVariable String caretakerId,
+                                                              @RequestParam(required = false) Integer limit,
+                                                              @RequestParam(required = false) String after) {
+        return readService.getAnimalsByCaretakerPage(caretakerId, after, limit);
+    }
+}
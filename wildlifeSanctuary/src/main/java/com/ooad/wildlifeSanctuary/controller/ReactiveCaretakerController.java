@@ -0,0 +1,50 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.service.ReactiveReadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read endpoints of CaretakerController for the reactive serving mode
+@RestController
+@RequestMapping("/api/caretakers")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCaretakerController {
+    @Autowired
+    private ReactiveReadService readService;
+
+    @GetMapping(params = {"!limit", "!after"})
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public Flux<Caretaker> getAllCaretakers() {
+        return readService.getAllCaretakers();
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public Mono<CursorPage<Caretaker>> getCaretakersPage(@RequestParam(required = false) Integer limit,
+                                                         @RequestParam(required = false) String after) {
+        return readService.getCaretakersPage(after, limit);
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public Mono<ResponseEntity<Caretaker>> getCaretakerById(@PathVariable String id) {
+        return readService.getCaretakerById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/user/{userId}")
+    @PreAuthorize("hasAnyAuthority('ROLE_MANAGER', 'ROLE_CARETAKER')")
+    public Mono<ResponseEntity<Caretaker>> getCaretakerByUserId(@PathVariable String userId) {
+        return readService.getCaretakerByUserId(userId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
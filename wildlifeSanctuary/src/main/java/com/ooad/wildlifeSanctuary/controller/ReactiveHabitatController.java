@@ -0,0 +1,43 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import com.ooad.wildlifeSanctuary.service.ReactiveReadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Read endpoints of HabitatController for the reactive serving mode
+@RestController
+@RequestMapping("/api/habitats")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveHabitatController {
+    @Autowired
+    private ReactiveReadService readService;
+
+    @GetMapping(params = {"!limit", "!after"})
+    public Flux<Habitat> getAllHabitats() {
+        return readService.getAllHabitats();
+    }
+
+    @GetMapping
+    public Mono<CursorPage<Habitat>> getHabitatsPage(@RequestParam(required = false) Integer limit,
+                                                     @RequestParam(required = false) String after) {
+        return readService.getHabitatsPage(after, limit);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Habitat>> getHabitatById(@PathVariable String id) {
+        return readService.getHabitatById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/with-animals")
+    public Flux<Habitat> getHabitatsWithAnimals() {
+        return readService.getHabitatsWithAnimals();
+    }
+}
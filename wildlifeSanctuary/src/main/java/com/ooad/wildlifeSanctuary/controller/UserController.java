@@ -0,0 +1,33 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.ooad.wildlifeSanctuary.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class UserController {
+    @Autowired
+    private UserService userService;
+
+    @PutMapping("/{username}/enabled")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<?> setUserEnabled(@PathVariable String username, @RequestParam boolean enabled) {
+        return userService.setUserEnabled(username, enabled)
+                .map(user -> {
+                    Map<String, Object> response = new HashMap<>();
+                    response.put("id", user.getId());
+                    response.put("username", user.getUsername());
+                    response.put("enabled", user.isEnabled());
+                    return ResponseEntity.ok(response);
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,25 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+
+/**
+ * An animal matched by a text search together with its relevance score. Scores are only
+ * comparable within the results of one query.
+ */
+public class AnimalSearchHit {
+    private final Animal animal;
+    private final double score;
+
+    public AnimalSearchHit(Animal animal, double score) {
+        this.animal = animal;
+        this.score = score;
+    }
+
+    public Animal getAnimal() {
+        return animal;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+
+import java.util.Set;
+
+/**
+ * What animal list views show, without the free-text description. Returned for
+ * {@code ?fields=summary}; only {@link #FIELDS} are read from Mongo.
+ */
+public class AnimalSummary {
+    public static final Set<String> FIELDS = Set.of("id", "name", "species", "healthStatus", "habitatId", "caretakerId");
+
+    private final String id;
+    private final String name;
+    private final String species;
+    private final String healthStatus;
+    private final String habitatId;
+    private final String caretakerId;
+
+    public AnimalSummary(String id, String name, String species, String healthStatus, String habitatId, String caretakerId) {
+        this.id = id;
+        this.name = name;
+        this.species = species;
+        this.healthStatus = healthStatus;
+        this.habitatId = habitatId;
+        this.caretakerId = caretakerId;
+    }
+
+    public static AnimalSummary from(Animal animal) {
+        return new AnimalSummary(animal.getId(), animal.getName(), animal.getSpecies(), animal.getHealthStatus(),
+                animal.getHabitatId(), animal.getCaretakerId());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSpecies() {
+        return species;
+    }
+
+    public String getHealthStatus() {
+        return healthStatus;
+    }
+
+    public String getHabitatId() {
+        return habitatId;
+    }
+
+    public String getCaretakerId() {
+        return caretakerId;
+    }
+}
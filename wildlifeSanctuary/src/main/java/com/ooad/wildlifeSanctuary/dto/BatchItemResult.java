@@ -0,0 +1,56 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+/**
+ * Outcome of one element of a batch write, reported at the element's position in the request.
+ */
+public class BatchItemResult {
+    public enum Status { CREATED, UPDATED, FAILED, SKIPPED }
+
+    private final int index;
+    private final String id;
+    private final Status status;
+    private final String error;
+
+    private BatchItemResult(int index, String id, Status status, String error) {
+        this.index = index;
+        this.id = id;
+        this.status = status;
+        this.error = error;
+    }
+
+    public static BatchItemResult created(int index, String id) {
+        return new BatchItemResult(index, id, Status.CREATED, null);
+    }
+
+    public static BatchItemResult updated(int index, String id) {
+        return new BatchItemResult(index, id, Status.UPDATED, null);
+    }
+
+    public static BatchItemResult failed(int index, String id, String error) {
+        return new BatchItemResult(index, id, Status.FAILED, error);
+    }
+
+    public static BatchItemResult skipped(int index, String id) {
+        return new BatchItemResult(index, id, Status.SKIPPED, "Not attempted after an earlier failure in an ordered batch");
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isSuccessful() {
+        return status == Status.CREATED || status == Status.UPDATED;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import java.util.List;
+
+public class BatchResult {
+    private final boolean ordered;
+    private final List<BatchItemResult> results;
+
+    public BatchResult(boolean ordered, List<BatchItemResult> results) {
+        this.ordered = ordered;
+        this.results = results;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public long getSucceeded() {
+        return results.stream().filter(BatchItemResult::isSuccessful).count();
+    }
+
+    public long getFailed() {
+        return results.size() - getSucceeded();
+    }
+
+    public List<BatchItemResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,46 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+
+import java.util.Set;
+
+/**
+ * What caretaker list views show, without the assigned animal ids. Returned for
+ * {@code ?fields=summary}; only {@link #FIELDS} are read from Mongo.
+ */
+public class CaretakerSummary {
+    public static final Set<String> FIELDS = Set.of("id", "name", "email", "specialization");
+
+    private final String id;
+    private final String name;
+    private final String email;
+    private final String specialization;
+
+    public CaretakerSummary(String id, String name, String email, String specialization) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.specialization = specialization;
+    }
+
+    public static CaretakerSummary from(Caretaker caretaker) {
+        return new CaretakerSummary(caretaker.getId(), caretaker.getName(), caretaker.getEmail(),
+                caretaker.getSpecialization());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getSpecialization() {
+        return specialization;
+    }
+}
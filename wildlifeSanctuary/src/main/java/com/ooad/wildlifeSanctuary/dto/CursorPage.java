@@ -0,0 +1,112 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. Pages are ordered by the listing's sort key
+ * with {@code _id} as the tiebreaker, and the cursor encodes that key for the last item
+ * of the page, so every page is an index range scan no matter how deep the client has paged.
+ */
+public class CursorPage<T> {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final int limit;
+
+    public CursorPage(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    public static <T> CursorPage<T> of(Slice<T> slice, Function<T, String> idExtractor) {
+        List<T> items = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !items.isEmpty()) {
+            nextCursor = encodeCursor(idExtractor.apply(items.get(items.size() - 1)));
+        }
+        return new CursorPage<>(items, nextCursor, slice.getSize());
+    }
+
+    /**
+     * Loads the page the cursor points at from an id-ordered listing: {@code first} serves
+     * a request without a cursor and {@code after} everything past the cursor's id.
+     */
+    public static <T> CursorPage<T> fetch(String cursor, Integer limit,
+                                          Function<Pageable, Slice<T>> first,
+                                          BiFunction<String, Pageable, Slice<T>> after,
+                                          Function<T, String> idExtractor) {
+        return fetch(cursor, pageRequest(limit), first, after, idExtractor);
+    }
+
+    // For listings walked in another order than ascending id, such as newest first
+    public static <T> CursorPage<T> fetch(String cursor, Pageable pageable,
+                                          Function<Pageable, Slice<T>> first,
+                                          BiFunction<String, Pageable, Slice<T>> after,
+                                          Function<T, String> idExtractor) {
+        String id = decodeCursor(cursor);
+        return of(id == null ? first.apply(pageable) : after.apply(id, pageable), idExtractor);
+    }
+
+    /**
+     * Builds a page from a plain list fetched with {@link #withLookahead(Pageable)}, for
+     * reactive queries that cannot return a {@link Slice}.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, Pageable pageable, Function<T, String> idExtractor) {
+        boolean hasNext = fetched.size() > pageable.getPageSize();
+        List<T> items = hasNext ? fetched.subList(0, pageable.getPageSize()) : fetched;
+        return of(new SliceImpl<>(items, pageable, hasNext), idExtractor);
+    }
+
+    // The same page one element larger, so the extra element tells whether another page follows
+    public static Pageable withLookahead(Pageable pageable) {
+        return PageRequest.of(0, pageable.getPageSize() + 1, pageable.getSort());
+    }
+
+    public static Pageable pageRequest(Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        if (size < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return PageRequest.of(0, Math.min(size, MAX_LIMIT), Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    public static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import com.ooad.wildlifeSanctuary.model.Habitat;
+
+import java.util.Set;
+
+/**
+ * What habitat list views show, without the description or the animal id list. Returned
+ * for {@code ?fields=summary}; only {@link #FIELDS} are read from Mongo.
+ */
+public class HabitatSummary {
+    public static final Set<String> FIELDS = Set.of("id", "name", "type", "climate", "area", "capacity", "occupancy");
+
+    private final String id;
+    private final String name;
+    private final String type;
+    private final String climate;
+    private final double area;
+    private final Integer capacity;
+    private final int occupancy;
+
+    public HabitatSummary(String id, String name, String type, String climate, double area, Integer capacity, int occupancy) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.climate = climate;
+        this.area = area;
+        this.capacity = capacity;
+        this.occupancy = occupancy;
+    }
+
+    public static HabitatSummary from(Habitat habitat) {
+        return new HabitatSummary(habitat.getId(), habitat.getName(), habitat.getType(), habitat.getClimate(),
+                habitat.getArea(), habitat.getCapacity(), habitat.getOccupancy());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getClimate() {
+        return climate;
+    }
+
+    public double getArea() {
+        return area;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public int getOccupancy() {
+        return occupancy;
+    }
+}
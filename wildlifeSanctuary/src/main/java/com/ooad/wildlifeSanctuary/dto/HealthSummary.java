@@ -0,0 +1,61 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import java.time.Instant;
+
+/**
+ * Downsampled vitals for one interval of an animal's observation history. Vitals without
+ * any reading in the interval have null min, max and average.
+ */
+public class HealthSummary {
+    private final Instant start;
+    private final long count;
+    private final Vital weight;
+    private final Vital temperature;
+
+    public HealthSummary(Instant start, long count, Vital weight, Vital temperature) {
+        this.start = start;
+        this.count = count;
+        this.weight = weight;
+        this.temperature = temperature;
+    }
+
+    public Instant getStart() {
+        return start;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Vital getWeight() {
+        return weight;
+    }
+
+    public Vital getTemperature() {
+        return temperature;
+    }
+
+    public static class Vital {
+        private final Double min;
+        private final Double max;
+        private final Double avg;
+
+        public Vital(Double min, Double max, Double avg) {
+            this.min = min;
+            this.max = max;
+            this.avg = avg;
+        }
+
+        public Double getMin() {
+            return min;
+        }
+
+        public Double getMax() {
+            return max;
+        }
+
+        public Double getAvg() {
+            return avg;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import java.util.List;
+
+/**
+ * One page of relevance-ranked search results. Unlike {@link CursorPage} these are paged
+ * by position, since the ranking has no stable key to continue from.
+ */
+public class SearchPage<T> {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final String query;
+    private final List<T> items;
+    private final int page;
+    private final int limit;
+    private final boolean hasNext;
+
+    public SearchPage(String query, List<T> items, int page, int limit, boolean hasNext) {
+        this.query = query;
+        this.items = items;
+        this.page = page;
+        this.limit = limit;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Builds a page from results fetched with one element more than {@code limit}, so the
+     * extra element tells whether another page follows without counting all matches.
+     */
+    public static <T> SearchPage<T> of(String query, List<T> fetched, int page, int limit) {
+        boolean hasNext = fetched.size() > limit;
+        return new SearchPage<>(query, hasNext ? fetched.subList(0, limit) : fetched, page, limit, hasNext);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
@@ -1,21 +1,42 @@
 package com.ooad.wildlifeSanctuary.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.Instant;
 import java.time.LocalDate;
 
 @Document(collection = "animals")
+@CompoundIndexes({
+    // Serve both the equality lookups and the keyset-paged variants sorted by _id
+    @CompoundIndex(name = "habitat_id", def = "{'habitatId': 1, '_id': 1}"),
+    @CompoundIndex(name = "caretaker_id", def = "{'caretakerId': 1, '_id': 1}"),
+    @CompoundIndex(name = "species_id", def = "{'species': 1, '_id': 1}"),
+    @CompoundIndex(name = "health_status_id", def = "{'healthStatus': 1, '_id': 1}"),
+    // Orderings offered by the filtered query, walked backwards for the descending sorts
+    @CompoundIndex(name = "name_id", def = "{'name': 1, '_id': 1}"),
+    @CompoundIndex(name = "date_of_birth_id", def = "{'dateOfBirth': 1, '_id': 1}")
+})
 public class Animal {
     @Id
-    @Indexed(unique = true)
     private String id;
+    // Searchable through the collection's text index, name matches ranking highest
+    @TextIndexed(weight = 3)
     private String name;
+    @TextIndexed(weight = 2)
     private String species;
     private String habitatId;
     private LocalDate dateOfBirth;
     private String healthStatus;
+    // Time of the health reading that set healthStatus, if a reading did. Maintained only
+    // by AnimalRepositoryImpl.updateHealthStatusIfNewer, which orders readings by it
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant healthStatusAt;
     private String caretakerId;
+    @TextIndexed
     private String description;
 
     // Getters and Setters
@@ -67,6 +88,14 @@ public class Animal {
         this.healthStatus = healthStatus;
     }
 
+    public Instant getHealthStatusAt() {
+        return healthStatusAt;
+    }
+
+    public void setHealthStatusAt(Instant healthStatusAt) {
+        this.healthStatusAt = healthStatusAt;
+    }
+
     public String getCaretakerId() {
         return caretakerId;
     }
@@ -0,0 +1,85 @@
+package com.ooad.wildlifeSanctuary.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One change to one entity, as recorded by the audit log. The id is assigned when the
+ * change is made rather than when it is written, so ordering by id follows the order of
+ * the changes even though they reach the database in batches. A change to every entity of
+ * a type is recorded with no entityId.
+ */
+@Document(collection = "audit_events")
+@CompoundIndex(name = "entity_history", def = "{'entityType': 1, 'entityId': 1, '_id': -1}")
+public class AuditEvent {
+    @Id
+    private String id;
+    private String entityType;
+    private String entityId;
+    private String changeType;
+    private String actor;
+    private Instant at;
+
+    public AuditEvent() {
+    }
+
+    public AuditEvent(String id, String entityType, String entityId, String changeType, String actor, Instant at) {
+        this.id = id;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeType = changeType;
+        this.actor = actor;
+        this.at = at;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getChangeType() {
+        return changeType;
+    }
+
+    public void setChangeType(String changeType) {
+        this.changeType = changeType;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public Instant getAt() {
+        return at;
+    }
+
+    public void setAt(Instant at) {
+        this.at = at;
+    }
+}
@@ -15,6 +15,7 @@ public class Caretaker {
     private String phoneNumber;
     private List<String> assignedAnimalIds;
     private String specialization;
+    @Indexed
     private String userId; // Reference to User collection for authentication
 
     // Getters and Setters
@@ -1,5 +1,6 @@
 package com.ooad.wildlifeSanctuary.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import java.util.List;
@@ -14,6 +15,11 @@ public class Habitat {
     private double area;
     private String climate;
     private List<String> animalIds;
+    // Maximum number of animals; null means the habitat is unbounded
+    private Integer capacity;
+    // Maintained only by the atomic counter updates in HabitatRepositoryImpl
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int occupancy;
 
     // Getters and Setters
     public String getId() {
@@ -71,4 +77,20 @@ public class Habitat {
     public void setAnimalIds(List<String> animalIds) {
         this.animalIds = animalIds;
     }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getOccupancy() {
+        return occupancy;
+    }
+
+    public void setOccupancy(int occupancy) {
+        this.occupancy = occupancy;
+    }
 } 
\ No newline at end of file
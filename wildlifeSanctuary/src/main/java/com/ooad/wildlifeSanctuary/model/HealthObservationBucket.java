@@ -0,0 +1,131 @@
+package com.ooad.wildlifeSanctuary.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One animal's health readings for one UTC day, appended to in place. A busy day may spill
+ * into further buckets once {@code app.health.bucket-capacity} readings are reached, so
+ * (animalId, day) is indexed but not unique. Running min/max/sum per vital let day-level
+ * summaries be answered without unwinding the readings.
+ */
+@Document(collection = "health_observations")
+@CompoundIndex(name = "animal_day", def = "{'animalId': 1, 'day': 1}")
+public class HealthObservationBucket {
+    @Id
+    private String id;
+    private String animalId;
+    private Instant day;
+    private int count;
+    private Instant lastAt;
+    private List<HealthReading> readings;
+    private VitalStats weight;
+    private VitalStats temperature;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getAnimalId() {
+        return animalId;
+    }
+
+    public void setAnimalId(String animalId) {
+        this.animalId = animalId;
+    }
+
+    public Instant getDay() {
+        return day;
+    }
+
+    public void setDay(Instant day) {
+        this.day = day;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public Instant getLastAt() {
+        return lastAt;
+    }
+
+    public void setLastAt(Instant lastAt) {
+        this.lastAt = lastAt;
+    }
+
+    public List<HealthReading> getReadings() {
+        return readings;
+    }
+
+    public void setReadings(List<HealthReading> readings) {
+        this.readings = readings;
+    }
+
+    public VitalStats getWeight() {
+        return weight;
+    }
+
+    public void setWeight(VitalStats weight) {
+        this.weight = weight;
+    }
+
+    public VitalStats getTemperature() {
+        return temperature;
+    }
+
+    public void setTemperature(VitalStats temperature) {
+        this.temperature = temperature;
+    }
+
+    public static class VitalStats {
+        private Double min;
+        private Double max;
+        private double sum;
+        private int count;
+
+        public Double getMin() {
+            return min;
+        }
+
+        public void setMin(Double min) {
+            this.min = min;
+        }
+
+        public Double getMax() {
+            return max;
+        }
+
+        public void setMax(Double max) {
+            this.max = max;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public void setSum(double sum) {
+            this.sum = sum;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ooad.wildlifeSanctuary.model;
+
+import java.time.Instant;
+
+/**
+ * A single set of vitals recorded by a caretaker. Every field but {@code at} is optional;
+ * {@code at} defaults to the time the reading is received.
+ */
+public class HealthReading {
+    private Instant at;
+    private Double weight;
+    private Double temperature;
+    private String healthStatus;
+    private String notes;
+    private String recordedBy;
+
+    public Instant getAt() {
+        return at;
+    }
+
+    public void setAt(Instant at) {
+        this.at = at;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(Double weight) {
+        this.weight = weight;
+    }
+
+    public Double getTemperature() {
+        return temperature;
+    }
+
+    public void setTemperature(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    public String getHealthStatus() {
+        return healthStatus;
+    }
+
+    public void setHealthStatus(String healthStatus) {
+        this.healthStatus = healthStatus;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public String getRecordedBy() {
+        return recordedBy;
+    }
+
+    public void setRecordedBy(String recordedBy) {
+        this.recordedBy = recordedBy;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * The filters {@link AnimalRepositoryCustom#findByFilter} accepts, all optional and
+ * combined with AND. Multi-valued filters match any of their values; the birth date
+ * bounds are inclusive.
+ */
+public record AnimalFilter(List<String> species,
+                           List<String> healthStatuses,
+                           String habitatId,
+                           String caretakerId,
+                           LocalDate bornFrom,
+                           LocalDate bornTo) {
+}
@@ -1,13 +1,23 @@
 package com.ooad.wildlifeSanctuary.repository;
 
 import com.ooad.wildlifeSanctuary.model.Animal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface AnimalRepository extends MongoRepository<Animal, String> {
+public interface AnimalRepository extends MongoRepository<Animal, String>, AnimalRepositoryCustom {
     List<Animal> findByHabitatId(String habitatId);
     List<Animal> findByCaretakerId(String caretakerId);
-} 
\ No newline at end of file
+
+    // Keyset pagination: callers pass a Pageable sorted by id, the id bound replaces skip/offset
+    Slice<Animal> findAllBy(Pageable pageable);
+    Slice<Animal> findByIdGreaterThan(String id, Pageable pageable);
+    Slice<Animal> findByHabitatId(String habitatId, Pageable pageable);
+    Slice<Animal> findByHabitatIdAndIdGreaterThan(String habitatId, String id, Pageable pageable);
+    Slice<Animal> findByCaretakerId(String caretakerId, Pageable pageable);
+    Slice<Animal> findByCaretakerIdAndIdGreaterThan(String caretakerId, String id, Pageable pageable);
+}
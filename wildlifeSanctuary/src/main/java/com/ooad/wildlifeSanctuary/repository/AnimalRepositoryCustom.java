@@ -0,0 +1,45 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.dto.AnimalSearchHit;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface AnimalRepositoryCustom {
+    // Animal ids grouped by owning habitat/caretaker, resolved in a single aggregation
+    Map<String, List<String>> findAnimalIdsGroupedByHabitat();
+    Map<String, List<String>> findAnimalIdsGroupedByCaretaker();
+
+    // Index-only id lookups used to decide which animals a bulk reassignment touches
+    List<String> findIdsByHabitatId(String habitatId, String species);
+    List<String> findIdsByCaretakerId(String caretakerId);
+
+    // Single multi-document updates; only animals still owned by the source are moved
+    Reassignment updateHabitatId(Collection<String> animalIds, String fromHabitatId, String toHabitatId);
+    Reassignment updateCaretakerId(Collection<String> animalIds, String fromCaretakerId, String toCaretakerId);
+
+    // Current habitat of each existing animal, read before a move so occupancy can be settled
+    Map<String, String> findHabitatIdsByIds(Collection<String> animalIds);
+
+    // Number of animals per habitat, used to rebuild the habitats' occupancy counters
+    Map<String, Integer> countAnimalsByHabitat();
+
+    // Sets healthStatus from a reading taken at the given time unless a later reading already set it;
+    // false if the animal is missing or has a later status
+    boolean updateHealthStatusIfNewer(String id, String healthStatus, Instant at);
+
+    // Removes the animal and returns it as it was, or null if it did not exist
+    Animal findAndDeleteById(String id);
+
+    // Text-index search over name, species and description, best matches first
+    List<AnimalSearchHit> searchByText(String text, long skip, int limit);
+
+    // One query for any combination of the whitelisted filters, keyset-paged in the given order;
+    // fields restricts what is loaded, null loads whole documents
+    Slice<Animal> findByFilter(AnimalFilter filter, AnimalSort sort, String afterKey, int limit, Set<String> fields);
+}
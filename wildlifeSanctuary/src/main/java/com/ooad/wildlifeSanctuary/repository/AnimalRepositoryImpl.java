@@ -0,0 +1,220 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.dto.AnimalSearchHit;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class AnimalRepositoryImpl implements AnimalRepositoryCustom {
+    private static final String SCORE_FIELD = "score";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public Map<String, List<String>> findAnimalIdsGroupedByHabitat() {
+        return findAnimalIdsGroupedBy("habitatId");
+    }
+
+    @Override
+    public Map<String, List<String>> findAnimalIdsGroupedByCaretaker() {
+        return findAnimalIdsGroupedBy("caretakerId");
+    }
+
+    @Override
+    public List<String> findIdsByHabitatId(String habitatId, String species) {
+        Criteria criteria = where("habitatId").is(habitatId);
+        if (species != null) {
+            criteria = criteria.and("species").is(species);
+        }
+        return findIds(criteria);
+    }
+
+    @Override
+    public List<String> findIdsByCaretakerId(String caretakerId) {
+        return findIds(where("caretakerId").is(caretakerId));
+    }
+
+    @Override
+    public Reassignment updateHabitatId(Collection<String> animalIds, String fromHabitatId, String toHabitatId) {
+        return reassign(animalIds, "habitatId", fromHabitatId, toHabitatId);
+    }
+
+    @Override
+    public Reassignment updateCaretakerId(Collection<String> animalIds, String fromCaretakerId, String toCaretakerId) {
+        return reassign(animalIds, "caretakerId", fromCaretakerId, toCaretakerId);
+    }
+
+    @Override
+    public Map<String, String> findHabitatIdsByIds(Collection<String> animalIds) {
+        Map<String, String> habitatIds = new HashMap<>();
+        if (animalIds.isEmpty()) {
+            return habitatIds;
+        }
+        Query query = new Query(where("id").in(animalIds));
+        query.fields().include("id", "habitatId");
+        for (Animal animal : mongoTemplate.find(query, Animal.class)) {
+            habitatIds.put(animal.getId(), animal.getHabitatId());
+        }
+        return habitatIds;
+    }
+
+    @Override
+    public Map<String, Integer> countAnimalsByHabitat() {
+        Aggregation aggregation = newAggregation(
+            match(where("habitatId").ne(null)),
+            group("habitatId").count().as("count")
+        );
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(aggregation, Animal.class, Document.class)) {
+            counts.put(group.get("_id").toString(), group.getInteger("count"));
+        }
+        return counts;
+    }
+
+    @Override
+    public boolean updateHealthStatusIfNewer(String id, String healthStatus, Instant at) {
+        // Compared on the server, so of two concurrent readings the later one wins in either order
+        Query query = new Query(where("id").is(id).orOperator(
+                where("healthStatusAt").is(null),
+                where("healthStatusAt").lte(at)));
+        Update update = new Update().set("healthStatus", healthStatus).set("healthStatusAt", at);
+        return mongoTemplate.updateFirst(query, update, Animal.class).getMatchedCount() == 1;
+    }
+
+    @Override
+    public Animal findAndDeleteById(String id) {
+        return mongoTemplate.findAndRemove(new Query(where("id").is(id)), Animal.class);
+    }
+
+    @Override
+    public List<AnimalSearchHit> searchByText(String text, long skip, int limit) {
+        // Read raw documents so the $meta score can be picked up alongside the mapped animal
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .includeScore(SCORE_FIELD)
+                .sortByScore()
+                // Equal scores are common, so _id keeps page boundaries stable
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .skip(skip)
+                .limit(limit);
+        List<AnimalSearchHit> hits = new ArrayList<>();
+        for (Document document : mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Animal.class))) {
+            Number score = document.get(SCORE_FIELD, Number.class);
+            hits.add(new AnimalSearchHit(mongoTemplate.getConverter().read(Animal.class, document),
+                    score == null ? 0 : score.doubleValue()));
+        }
+        return hits;
+    }
+
+    @Override
+    public Slice<Animal> findByFilter(AnimalFilter filter, AnimalSort sort, String afterKey, int limit, Set<String> fields) {
+        List<Criteria> clauses = new ArrayList<>();
+        if (filter.species() != null && !filter.species().isEmpty()) {
+            clauses.add(where("species").in(filter.species()));
+        }
+        if (filter.healthStatuses() != null && !filter.healthStatuses().isEmpty()) {
+            clauses.add(where("healthStatus").in(filter.healthStatuses()));
+        }
+        if (filter.habitatId() != null) {
+            clauses.add(where("habitatId").is(filter.habitatId()));
+        }
+        if (filter.caretakerId() != null) {
+            clauses.add(where("caretakerId").is(filter.caretakerId()));
+        }
+        if (filter.bornFrom() != null || filter.bornTo() != null) {
+            Criteria born = where("dateOfBirth");
+            if (filter.bornFrom() != null) {
+                born = born.gte(filter.bornFrom());
+            }
+            if (filter.bornTo() != null) {
+                born = born.lte(filter.bornTo());
+            }
+            clauses.add(born);
+        }
+        if (afterKey != null) {
+            clauses.add(sort.after(afterKey));
+        }
+
+        Query query = new Query().with(sort.toSort()).limit(limit + 1);
+        if (!clauses.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(clauses));
+        }
+        if (fields != null) {
+            query.fields().include(fields.toArray(String[]::new));
+        }
+        List<Animal> fetched = mongoTemplate.find(query, Animal.class);
+        boolean hasNext = fetched.size() > limit;
+        return new SliceImpl<>(hasNext ? fetched.subList(0, limit) : fetched, PageRequest.of(0, limit, sort.toSort()), hasNext);
+    }
+
+    private List<String> findIds(Criteria criteria) {
+        Query query = new Query(criteria);
+        query.fields().include("id");
+        return mongoTemplate.find(query, Animal.class).stream()
+                .map(Animal::getId)
+                .toList();
+    }
+
+    private Reassignment reassign(Collection<String> animalIds, String field, String from, String to) {
+        if (animalIds.isEmpty()) {
+            return Reassignment.NONE;
+        }
+        Query query = new Query(where("id").in(animalIds).and(field).is(from));
+        long modified = mongoTemplate.updateMulti(query, new Update().set(field, to), Animal.class).getModifiedCount();
+        if (modified == 0) {
+            return Reassignment.NONE;
+        }
+        // Candidates taken elsewhere between the id lookup and the update were left alone
+        List<String> moved = modified == animalIds.size()
+                ? List.copyOf(animalIds)
+                : findIds(where("id").in(animalIds).and(field).is(to));
+        return new Reassignment(modified, moved);
+    }
+
+    private Map<String, List<String>> findAnimalIdsGroupedBy(String field) {
+        Map<String, List<String>> animalIds = new HashMap<>();
+        for (Document group : mongoTemplate.aggregate(groupIdsBy(field), Animal.class, Document.class)) {
+            animalIds.put(group.get("_id").toString(), groupedIds(group));
+        }
+        return animalIds;
+    }
+
+    // Shared with ReactiveAnimalRepositoryImpl so both modes group identically
+    static Aggregation groupIdsBy(String field) {
+        return newAggregation(
+            match(where(field).ne(null)),
+            group(field).push("_id").as("animalIds")
+        );
+    }
+
+    static List<String> groupedIds(Document group) {
+        List<String> ids = new ArrayList<>();
+        for (Object id : group.getList("animalIds", Object.class)) {
+            ids.add(id.toString());
+        }
+        return ids;
+    }
+}
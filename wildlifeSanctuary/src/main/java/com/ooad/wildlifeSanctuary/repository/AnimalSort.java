@@ -0,0 +1,118 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * The orderings a filtered animal query may use. Each is backed by an index ending in
+ * {@code _id}, and {@code _id} breaks ties so a page boundary is a single key the next
+ * page can continue from.
+ */
+public enum AnimalSort {
+    ID("id", null, Sort.Direction.ASC),
+    ID_DESC("-id", null, Sort.Direction.DESC),
+    NAME("name", "name", Sort.Direction.ASC),
+    NAME_DESC("-name", "name", Sort.Direction.DESC),
+    DATE_OF_BIRTH("dateOfBirth", "dateOfBirth", Sort.Direction.ASC),
+    DATE_OF_BIRTH_DESC("-dateOfBirth", "dateOfBirth", Sort.Direction.DESC);
+
+    private static final String KEY_SEPARATOR = "|";
+    private static final String VALUE_MARKER = "=";
+
+    private final String parameter;
+    private final String property;
+    private final Sort.Direction direction;
+
+    AnimalSort(String parameter, String property, Sort.Direction direction) {
+        this.parameter = parameter;
+        this.property = property;
+        this.direction = direction;
+    }
+
+    public static AnimalSort fromParameter(String parameter) {
+        if (parameter == null || parameter.isEmpty()) {
+            return ID;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.parameter.equals(parameter))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort '" + parameter + "', expected one of "
+                        + Arrays.stream(values()).map(sort -> sort.parameter).collect(Collectors.joining(", "))));
+    }
+
+    // The sorted property besides id, or null when sorting by id alone
+    public String getProperty() {
+        return property;
+    }
+
+    public Sort toSort() {
+        Sort byId = Sort.by(direction, "id");
+        return property == null ? byId : Sort.by(direction, property).and(byId);
+    }
+
+    /**
+     * The position of an animal in this ordering, as "|id" for a missing sort value or
+     * "=value|id" otherwise. The value is URL-encoded so the first separator always ends
+     * it, and the id, which clients may choose, is taken verbatim from the rest.
+     */
+    public String keyOf(Animal animal) {
+        if (property == null) {
+            return animal.getId();
+        }
+        Object value = "name".equals(property) ? animal.getName() : animal.getDateOfBirth();
+        String encodedValue = value == null ? "" : VALUE_MARKER + URLEncoder.encode(value.toString(), StandardCharsets.UTF_8);
+        return encodedValue + KEY_SEPARATOR + animal.getId();
+    }
+
+    /**
+     * Matches the animals that come after {@code key} in this ordering. Mongo sorts missing
+     * values before all others, so they lead an ascending order and trail a descending one.
+     */
+    Criteria after(String key) {
+        boolean ascending = direction.isAscending();
+        if (property == null) {
+            return ascending ? where("id").gt(key) : where("id").lt(key);
+        }
+        int separator = key.indexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor for sort '" + parameter + "'");
+        }
+        String encodedValue = key.substring(0, separator);
+        String id = key.substring(separator + 1);
+        if (!encodedValue.isEmpty() && !encodedValue.startsWith(VALUE_MARKER)) {
+            throw new IllegalArgumentException("Invalid cursor for sort '" + parameter + "'");
+        }
+        Object value = encodedValue.isEmpty() ? null : parseValue(encodedValue.substring(VALUE_MARKER.length()));
+        Function<Criteria, Criteria> afterId = criteria -> ascending ? criteria.and("id").gt(id) : criteria.and("id").lt(id);
+
+        if (value == null) {
+            Criteria sameValue = afterId.apply(where(property).is(null));
+            return ascending ? new Criteria().orOperator(sameValue, where(property).ne(null)) : sameValue;
+        }
+        Criteria beyondValue = ascending ? where(property).gt(value) : where(property).lt(value);
+        Criteria sameValue = afterId.apply(where(property).is(value));
+        return ascending
+                ? new Criteria().orOperator(beyondValue, sameValue)
+                : new Criteria().orOperator(beyondValue, sameValue, where(property).is(null));
+    }
+
+    private Object parseValue(String value) {
+        try {
+            String decoded = URLDecoder.decode(value, StandardCharsets.UTF_8);
+            return "dateOfBirth".equals(property) ? LocalDate.parse(decoded) : decoded;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor for sort '" + parameter + "'");
+        }
+    }
+}
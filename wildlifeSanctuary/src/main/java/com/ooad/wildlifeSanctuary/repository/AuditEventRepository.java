@@ -0,0 +1,13 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.AuditEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuditEventRepository extends MongoRepository<AuditEvent, String> {
+    Slice<AuditEvent> findByEntityTypeAndEntityId(String entityType, String entityId, Pageable pageable);
+    Slice<AuditEvent> findByEntityTypeAndEntityIdAndIdLessThan(String entityType, String entityId, String id, Pageable pageable);
+}
@@ -1,13 +1,17 @@
 package com.ooad.wildlifeSanctuary.repository;
 
 import com.ooad.wildlifeSanctuary.model.Caretaker;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface CaretakerRepository extends MongoRepository<Caretaker, String> {
+public interface CaretakerRepository extends MongoRepository<Caretaker, String>, CaretakerRepositoryCustom {
     Caretaker findByUserId(String userId);
     Optional<Caretaker> findByEmail(String email);
-} 
\ No newline at end of file
+    Slice<Caretaker> findAllBy(Pageable pageable);
+    Slice<Caretaker> findByIdGreaterThan(String id, Pageable pageable);
+}
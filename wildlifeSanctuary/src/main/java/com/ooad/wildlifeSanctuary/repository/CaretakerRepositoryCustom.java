@@ -0,0 +1,8 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import java.util.Collection;
+
+public interface CaretakerRepositoryCustom {
+    // Moves animal ids between two caretakers' assignedAnimalIds lists without rewriting either document
+    void transferAnimalIds(String fromCaretakerId, String toCaretakerId, Collection<String> animalIds);
+}
@@ -0,0 +1,28 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class CaretakerRepositoryImpl implements CaretakerRepositoryCustom {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void transferAnimalIds(String fromCaretakerId, String toCaretakerId, Collection<String> animalIds) {
+        if (animalIds.isEmpty()) {
+            return;
+        }
+        Object[] ids = animalIds.toArray();
+        mongoTemplate.updateFirst(new Query(where("id").is(fromCaretakerId)),
+                new Update().pullAll("assignedAnimalIds", ids), Caretaker.class);
+        mongoTemplate.updateFirst(new Query(where("id").is(toCaretakerId)),
+                new Update().addToSet("assignedAnimalIds").each(ids), Caretaker.class);
+    }
+}
@@ -1,9 +1,13 @@
 package com.ooad.wildlifeSanctuary.repository;
 
 import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface HabitatRepository extends MongoRepository<Habitat, String> {
-} 
\ No newline at end of file
+public interface HabitatRepository extends MongoRepository<Habitat, String>, HabitatRepositoryCustom {
+    Slice<Habitat> findAllBy(Pageable pageable);
+    Slice<Habitat> findByIdGreaterThan(String id, Pageable pageable);
+}
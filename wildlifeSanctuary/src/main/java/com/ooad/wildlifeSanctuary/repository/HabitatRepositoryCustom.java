@@ -0,0 +1,18 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface HabitatRepositoryCustom {
+    // Moves animal ids between two habitats' animalIds lists without rewriting either document
+    void transferAnimalIds(String fromHabitatId, String toHabitatId, Collection<String> animalIds);
+
+    // Atomically takes count slots if they fit under the capacity; false if full or missing
+    boolean reserveCapacity(String habitatId, int count);
+
+    // Gives back slots taken by reserveCapacity, never taking the counter below zero
+    void releaseCapacity(String habitatId, int count);
+
+    // Overwrites every habitat's occupancy with the given animal counts, zero when absent
+    void resetOccupancy(Map<String, Integer> animalCounts);
+}
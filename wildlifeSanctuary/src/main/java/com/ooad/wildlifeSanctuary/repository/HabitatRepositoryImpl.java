@@ -0,0 +1,75 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.mongodb.client.MongoCollection;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class HabitatRepositoryImpl implements HabitatRepositoryCustom {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void transferAnimalIds(String fromHabitatId, String toHabitatId, Collection<String> animalIds) {
+        if (animalIds.isEmpty()) {
+            return;
+        }
+        Object[] ids = animalIds.toArray();
+        mongoTemplate.updateFirst(new Query(where("id").is(fromHabitatId)),
+                new Update().pullAll("animalIds", ids), Habitat.class);
+        mongoTemplate.updateFirst(new Query(where("id").is(toHabitatId)),
+                new Update().addToSet("animalIds").each(ids), Habitat.class);
+    }
+
+    /**
+     * The capacity check and the increment are one conditional update, so concurrent
+     * callers can never push occupancy past capacity: the server evaluates the filter and
+     * applies {@code $inc} atomically on the single document.
+     */
+    @Override
+    public boolean reserveCapacity(String habitatId, int count) {
+        Document occupancyAfter = new Document("$add", List.of(new Document("$ifNull", List.of("$occupancy", 0)), count));
+        Document filter = new Document("_id", toMongoId(habitatId))
+                .append("$or", List.of(
+                        new Document("capacity", null),
+                        new Document("$expr", new Document("$lte", List.of(occupancyAfter, "$capacity")))));
+        return habitats().updateOne(filter, new Document("$inc", new Document("occupancy", count)))
+                .getModifiedCount() == 1;
+    }
+
+    @Override
+    public void releaseCapacity(String habitatId, int count) {
+        Document occupancyAfter = new Document("$subtract", List.of(new Document("$ifNull", List.of("$occupancy", 0)), count));
+        habitats().updateOne(new Document("_id", toMongoId(habitatId)),
+                List.of(new Document("$set", new Document("occupancy", new Document("$max", List.of(0, occupancyAfter))))));
+    }
+
+    @Override
+    public void resetOccupancy(Map<String, Integer> animalCounts) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Habitat.class);
+        bulkOps.updateMulti(new Query(where("id").nin(animalCounts.keySet())), new Update().set("occupancy", 0));
+        animalCounts.forEach((habitatId, count) ->
+                bulkOps.updateOne(new Query(where("id").is(habitatId)), new Update().set("occupancy", count)));
+        bulkOps.execute();
+    }
+
+    private MongoCollection<Document> habitats() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Habitat.class));
+    }
+
+    // Mirrors the mapping layer, which stores hex string ids as ObjectIds
+    private static Object toMongoId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+}
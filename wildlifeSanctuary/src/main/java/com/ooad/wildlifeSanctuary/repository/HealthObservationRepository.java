@@ -0,0 +1,10 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.HealthObservationBucket;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HealthObservationRepository extends MongoRepository<HealthObservationBucket, String>,
+        HealthObservationRepositoryCustom {
+}
@@ -0,0 +1,22 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.dto.HealthSummary;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+public interface HealthObservationRepositoryCustom {
+    // Appends to the animal's open bucket for the day, starting a new one when it is full
+    void append(String animalId, Instant day, HealthReading reading, int bucketCapacity);
+
+    // Readings with from <= at < to, oldest first
+    List<HealthReading> findReadings(String animalId, Instant from, Instant to, int limit);
+
+    // Min/max/avg per interval, counted from 'from'; unwinds the readings in range
+    List<HealthSummary> summarize(String animalId, Instant from, Instant to, Duration interval);
+
+    // Same for day-aligned bounds and whole-day intervals, from the buckets' running stats alone
+    List<HealthSummary> summarizeDays(String animalId, Instant from, Instant to, Duration interval);
+}
@@ -0,0 +1,156 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.mongodb.client.MongoCollection;
+import com.ooad.wildlifeSanctuary.dto.HealthSummary;
+import com.ooad.wildlifeSanctuary.model.HealthObservationBucket;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class HealthObservationRepositoryImpl implements HealthObservationRepositoryCustom {
+    private static final List<String> VITALS = List.of("weight", "temperature");
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public void append(String animalId, Instant day, HealthReading reading, int bucketCapacity) {
+        // A full bucket no longer matches, so the upsert starts the next one for the same day
+        Query bucket = new Query(where("animalId").is(animalId).and("day").is(day).and("count").lt(bucketCapacity));
+        Update update = new Update()
+                .push("readings", reading)
+                .inc("count", 1)
+                .max("lastAt", reading.getAt());
+        addVital(update, "weight", reading.getWeight());
+        addVital(update, "temperature", reading.getTemperature());
+        mongoTemplate.upsert(bucket, update, HealthObservationBucket.class);
+    }
+
+    @Override
+    public List<HealthReading> findReadings(String animalId, Instant from, Instant to, int limit) {
+        List<Document> pipeline = List.of(
+                matchBuckets(animalId, startOfDay(from), to),
+                new Document("$unwind", "$readings"),
+                matchReadings(from, to),
+                new Document("$sort", new Document("readings.at", 1)),
+                new Document("$limit", limit),
+                new Document("$replaceRoot", new Document("newRoot", "$readings")));
+        List<HealthReading> readings = new ArrayList<>();
+        for (Document reading : observations().aggregate(pipeline)) {
+            readings.add(mongoTemplate.getConverter().read(HealthReading.class, reading));
+        }
+        return readings;
+    }
+
+    @Override
+    public List<HealthSummary> summarize(String animalId, Instant from, Instant to, Duration interval) {
+        Document grouping = new Document("_id", intervalStart("$readings.at", from, interval))
+                .append("count", new Document("$sum", 1));
+        for (String vital : VITALS) {
+            String value = "$readings." + vital;
+            grouping.append(vital + "Min", new Document("$min", value))
+                    .append(vital + "Max", new Document("$max", value))
+                    .append(vital + "Avg", new Document("$avg", value));
+        }
+        List<Document> pipeline = List.of(
+                matchBuckets(animalId, startOfDay(from), to),
+                new Document("$unwind", "$readings"),
+                matchReadings(from, to),
+                new Document("$group", grouping),
+                new Document("$sort", new Document("_id", 1)));
+        List<HealthSummary> summaries = new ArrayList<>();
+        for (Document group : observations().aggregate(pipeline)) {
+            summaries.add(new HealthSummary(Instant.ofEpochMilli(group.getLong("_id")),
+                    ((Number) group.get("count")).longValue(),
+                    vital(group, "weight", group.get("weightAvg", Number.class)),
+                    vital(group, "temperature", group.get("temperatureAvg", Number.class))));
+        }
+        return summaries;
+    }
+
+    @Override
+    public List<HealthSummary> summarizeDays(String animalId, Instant from, Instant to, Duration interval) {
+        Document grouping = new Document("_id", intervalStart("$day", from, interval))
+                .append("count", new Document("$sum", "$count"));
+        for (String vital : VITALS) {
+            grouping.append(vital + "Min", new Document("$min", "$" + vital + ".min"))
+                    .append(vital + "Max", new Document("$max", "$" + vital + ".max"))
+                    .append(vital + "Sum", new Document("$sum", "$" + vital + ".sum"))
+                    .append(vital + "Count", new Document("$sum", "$" + vital + ".count"));
+        }
+        List<Document> pipeline = List.of(
+                matchBuckets(animalId, from, to),
+                new Document("$group", grouping),
+                new Document("$sort", new Document("_id", 1)));
+        List<HealthSummary> summaries = new ArrayList<>();
+        for (Document group : observations().aggregate(pipeline)) {
+            summaries.add(new HealthSummary(Instant.ofEpochMilli(group.getLong("_id")),
+                    ((Number) group.get("count")).longValue(),
+                    vital(group, "weight", average(group, "weight")),
+                    vital(group, "temperature", average(group, "temperature"))));
+        }
+        return summaries;
+    }
+
+    private static void addVital(Update update, String vital, Double value) {
+        if (value != null) {
+            update.min(vital + ".min", value)
+                    .max(vital + ".max", value)
+                    .inc(vital + ".sum", value)
+                    .inc(vital + ".count", 1);
+        }
+    }
+
+    private static Document matchBuckets(String animalId, Instant fromDay, Instant to) {
+        return new Document("$match", new Document("animalId", animalId)
+                .append("day", new Document("$gte", Date.from(fromDay)).append("$lt", Date.from(to))));
+    }
+
+    private static Document matchReadings(Instant from, Instant to) {
+        return new Document("$match", new Document("readings.at",
+                new Document("$gte", Date.from(from)).append("$lt", Date.from(to))));
+    }
+
+    // Epoch millis of the start of the interval a date falls in, intervals counted from 'from'
+    private static Document intervalStart(String date, Instant from, Duration interval) {
+        Document millis = new Document("$toLong", date);
+        Document offset = new Document("$mod", List.of(
+                new Document("$subtract", List.of(millis, from.toEpochMilli())), interval.toMillis()));
+        return new Document("$subtract", List.of(millis, offset));
+    }
+
+    private static Number average(Document interval, String vital) {
+        Number count = interval.get(vital + "Count", Number.class);
+        if (count == null || count.longValue() == 0) {
+            return null;
+        }
+        return interval.get(vital + "Sum", Number.class).doubleValue() / count.longValue();
+    }
+
+    private static HealthSummary.Vital vital(Document interval, String vital, Number average) {
+        Number min = interval.get(vital + "Min", Number.class);
+        Number max = interval.get(vital + "Max", Number.class);
+        return new HealthSummary.Vital(min == null ? null : min.doubleValue(), max == null ? null : max.doubleValue(),
+                average == null ? null : average.doubleValue());
+    }
+
+    static Instant startOfDay(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.DAYS);
+    }
+
+    private MongoCollection<Document> observations() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(HealthObservationBucket.class));
+    }
+}
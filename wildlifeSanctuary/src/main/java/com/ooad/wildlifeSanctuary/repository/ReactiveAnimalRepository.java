@@ -0,0 +1,21 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+// Non-blocking counterpart of AnimalRepository's read queries, used in reactive serving mode
+@Repository
+public interface ReactiveAnimalRepository extends ReactiveMongoRepository<Animal, String>, ReactiveAnimalRepositoryCustom {
+    Flux<Animal> findByHabitatId(String habitatId);
+    Flux<Animal> findByCaretakerId(String caretakerId);
+
+    Flux<Animal> findAllBy(Pageable pageable);
+    Flux<Animal> findByIdGreaterThan(String id, Pageable pageable);
+    Flux<Animal> findByHabitatId(String habitatId, Pageable pageable);
+    Flux<Animal> findByHabitatIdAndIdGreaterThan(String habitatId, String id, Pageable pageable);
+    Flux<Animal> findByCaretakerId(String caretakerId, Pageable pageable);
+    Flux<Animal> findByCaretakerIdAndIdGreaterThan(String caretakerId, String id, Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ReactiveAnimalRepositoryCustom {
+    // Same single aggregations as AnimalRepositoryCustom, without blocking
+    Mono<Map<String, List<String>>> findAnimalIdsGroupedByHabitat();
+    Mono<Map<String, List<String>>> findAnimalIdsGroupedByCaretaker();
+}
@@ -0,0 +1,30 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public class ReactiveAnimalRepositoryImpl implements ReactiveAnimalRepositoryCustom {
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Map<String, List<String>>> findAnimalIdsGroupedByHabitat() {
+        return findAnimalIdsGroupedBy("habitatId");
+    }
+
+    @Override
+    public Mono<Map<String, List<String>>> findAnimalIdsGroupedByCaretaker() {
+        return findAnimalIdsGroupedBy("caretakerId");
+    }
+
+    private Mono<Map<String, List<String>>> findAnimalIdsGroupedBy(String field) {
+        return reactiveMongoTemplate.aggregate(AnimalRepositoryImpl.groupIdsBy(field), Animal.class, Document.class)
+                .collectMap(group -> group.get("_id").toString(), AnimalRepositoryImpl::groupedIds);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface ReactiveCaretakerRepository extends ReactiveMongoRepository<Caretaker, String> {
+    Mono<Caretaker> findByUserId(String userId);
+
+    Flux<Caretaker> findAllBy(Pageable pageable);
+    Flux<Caretaker> findByIdGreaterThan(String id, Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ReactiveHabitatRepository extends ReactiveMongoRepository<Habitat, String> {
+    Flux<Habitat> findAllBy(Pageable pageable);
+    Flux<Habitat> findByIdGreaterThan(String id, Pageable pageable);
+}
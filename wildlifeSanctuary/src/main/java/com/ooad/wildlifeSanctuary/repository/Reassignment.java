@@ -0,0 +1,13 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk reassignment. {@code modifiedCount} is what this update changed and
+ * settles occupancy; {@code movedIds} are the candidates now owned by the target, which
+ * are the ids to move between the parents' id lists. Candidates moved elsewhere
+ * concurrently appear in neither.
+ */
+public record Reassignment(long modifiedCount, List<String> movedIds) {
+    public static final Reassignment NONE = new Reassignment(0, List.of());
+}
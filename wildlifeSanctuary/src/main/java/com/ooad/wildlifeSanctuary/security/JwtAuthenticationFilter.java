@@ -1,12 +1,13 @@
 package com.ooad.wildlifeSanctuary.security;
 
-import io.jsonwebtoken.Claims;
+import com.ooad.wildlifeSanctuary.model.User;
+import com.ooad.wildlifeSanctuary.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -17,15 +18,24 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
     private JwtUtils jwtUtils;
 
     @Autowired
-    private UserDetailsService userDetailsService;
+    private UserService userService;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    // Build the principal from the verified claims instead of loading the user per request
+    @Value("${app.security.jwt.claims-principal:true}")
+    private boolean claimsPrincipal;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -33,15 +43,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
             if (jwt != null) {
-                String username = jwtUtils.extractUsername(jwt);
+                // Verify once; username, expiry and role all come from the same verified claims
+                VerifiedToken token = jwtUtils.verifyToken(jwt);
+                String username = token.getUsername();
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    if (jwtUtils.validateToken(jwt, userDetails)) {
-                        Claims claims = jwtUtils.extractAllClaims(jwt);
-                        String role = (String) claims.get("role");
+                    Optional<User> principal = resolvePrincipal(token);
+                    if (principal.isPresent() && principal.get().isEnabled()) {
+                        String role = token.getRole();
                         
                         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, Collections.singletonList(new SimpleGrantedAuthority(role)));
+                            principal.get(), null, Collections.singletonList(new SimpleGrantedAuthority(role)));
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -55,6 +66,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Optional<User> resolvePrincipal(VerifiedToken token) {
+        if (!claimsPrincipal) {
+            return userService.getUserForAuthentication(token.getUsername());
+        }
+        User principal = token.toUser();
+        if (userDetailsCache.isEnabled()) {
+            // Still honour the enabled flag, at the cost of at most one lookup per cache TTL
+            Optional<User> stored = userService.getUserForAuthentication(token.getUsername());
+            if (stored.isEmpty()) {
+                return Optional.empty();
+            }
+            principal.setEnabled(stored.get().isEnabled());
+            if (principal.getId() == null) {
+                principal.setId(stored.get().getId());
+            }
+        }
+        return Optional.of(principal);
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -0,0 +1,96 @@
+package com.ooad.wildlifeSanctuary.security;
+
+import com.ooad.wildlifeSanctuary.model.User;
+import com.ooad.wildlifeSanctuary.repository.ReactiveUserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * The reactive counterpart of {@link JwtAuthenticationFilter}: same token verification
+ * and principal rules, but any user lookup goes through the reactive driver so no event
+ * loop thread ever blocks.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class JwtAuthenticationWebFilter implements WebFilter {
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationWebFilter.class);
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private ReactiveUserRepository userRepository;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Value("${app.security.jwt.claims-principal:true}")
+    private boolean claimsPrincipal;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String headerAuth = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (headerAuth == null || !headerAuth.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+        VerifiedToken token;
+        try {
+            // Signature checks are CPU-only and cached, so they are fine on the event loop
+            token = jwtUtils.verifyToken(headerAuth.substring(7));
+        } catch (Exception e) {
+            log.error("Cannot set user authentication: {}", e.getMessage());
+            return chain.filter(exchange);
+        }
+        if (token.getUsername() == null) {
+            return chain.filter(exchange);
+        }
+        return resolvePrincipal(token)
+                .filter(User::isEnabled)
+                .map(principal -> (Authentication) new UsernamePasswordAuthenticationToken(
+                        principal, null, Collections.singletonList(new SimpleGrantedAuthority(token.getRole()))))
+                .flatMap(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication))
+                        .thenReturn(true))
+                .switchIfEmpty(Mono.defer(() -> chain.filter(exchange).thenReturn(true)))
+                .then();
+    }
+
+    private Mono<User> resolvePrincipal(VerifiedToken token) {
+        if (!claimsPrincipal) {
+            return storedUser(token.getUsername());
+        }
+        User principal = token.toUser();
+        if (!userDetailsCache.isEnabled()) {
+            return Mono.just(principal);
+        }
+        // Still honour the enabled flag, at the cost of at most one lookup per cache TTL
+        return storedUser(token.getUsername()).map(stored -> {
+            principal.setEnabled(stored.isEnabled());
+            if (principal.getId() == null) {
+                principal.setId(stored.getId());
+            }
+            return principal;
+        });
+    }
+
+    private Mono<User> storedUser(String username) {
+        return userDetailsCache.getIfPresent(username)
+                .map(Mono::just)
+                .orElseGet(() -> userRepository.findByUsername(username).doOnNext(userDetailsCache::put));
+    }
+}
@@ -1,13 +1,21 @@
 package com.ooad.wildlifeSanctuary.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.ooad.wildlifeSanctuary.model.User;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.impl.TextCodec;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 // import java.util.stream.Collectors;
 
@@ -15,6 +23,39 @@ import java.util.function.Function;
 public class JwtUtils {
     private static final String SECRET_KEY = "yourSecretKeyHere123!@#"; // In production, use a secure key
     private static final long JWT_EXPIRATION = 7 * 24 * 60 * 60 * 1000; // 7 days
+    private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    // jjwt reads String keys as base64, so decode the same way to keep issued tokens valid
+    private final Key signingKey = new SecretKeySpec(
+            TextCodec.BASE64.decode(SECRET_KEY), SignatureAlgorithm.HS256.getJcaName());
+
+    // The parser holds no per-parse state once configured, so one instance serves all threads
+    private final JwtParser parser = Jwts.parser().setSigningKey(signingKey);
+
+    // Tokens that already passed signature verification, each kept until its own expiry
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                    if (verified.getExpiration() == null) {
+                        return TimeUnit.MILLISECONDS.toNanos(JWT_EXPIRATION);
+                    }
+                    long remaining = verified.getExpiration().getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
@@ -24,6 +65,9 @@ public class JwtUtils {
                 .findFirst()
                 .orElse("ROLE_USER");
         claims.put("role", role);
+        if (userDetails instanceof User user) {
+            claims.put("userId", user.getId());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -33,33 +77,47 @@ public class JwtUtils {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + JWT_EXPIRATION))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .signWith(SignatureAlgorithm.HS256, signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry of a token and returns its claims. A token seen
+     * before is answered from the cache without any HMAC or JSON work.
+     *
+     * @throws JwtException if the token is malformed, badly signed or expired
+     */
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verified = verifiedTokens.get(token, this::parseAndVerify);
+        if (verified.isExpired()) {
+            verifiedTokens.invalidate(token);
+            throw new ExpiredJwtException(null, verified.getClaims(), "JWT expired at " + verified.getExpiration());
+        }
+        return verified;
+    }
+
+    private VerifiedToken parseAndVerify(String token) {
+        return new VerifiedToken(parser.parseClaimsJws(token).getBody());
+    }
+
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        VerifiedToken verified = verifyToken(token);
+        return verified.getUsername().equals(userDetails.getUsername());
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifyToken(token).getUsername();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verifyToken(token).getExpiration();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verifyToken(token).getClaims());
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return verifyToken(token).getClaims();
     }
-} 
\ No newline at end of file
+}
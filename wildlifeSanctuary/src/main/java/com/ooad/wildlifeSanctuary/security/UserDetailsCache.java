@@ -0,0 +1,75 @@
+package com.ooad.wildlifeSanctuary.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ooad.wildlifeSanctuary.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of users looked up while authenticating bearer tokens. UserService
+ * evicts entries whenever it changes a user, so the TTL only bounds how long a change
+ * made on another node can go unnoticed.
+ */
+@Component
+public class UserDetailsCache {
+    @Value("${app.security.user-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.security.user-cache.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${app.security.user-cache.max-size:10000}")
+    private long maxSize;
+
+    private Cache<String, User> users;
+
+    @PostConstruct
+    void init() {
+        users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<User> get(String username, Function<String, Optional<User>> loader) {
+        if (!enabled) {
+            return loader.apply(username);
+        }
+        User cached = users.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<User> loaded = loader.apply(username);
+        loaded.ifPresent(user -> users.put(username, user));
+        return loaded;
+    }
+
+    // For callers that load users themselves, such as the reactive JWT filter
+    public Optional<User> getIfPresent(String username) {
+        return enabled ? Optional.ofNullable(users.getIfPresent(username)) : Optional.empty();
+    }
+
+    public void put(User user) {
+        if (enabled) {
+            users.put(user.getUsername(), user);
+        }
+    }
+
+    public void invalidate(String username) {
+        users.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        users.invalidateAll();
+    }
+}
@@ -0,0 +1,72 @@
+package com.ooad.wildlifeSanctuary.security;
+
+import com.ooad.wildlifeSanctuary.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Claims of a token whose signature has already been checked. Instances are immutable
+ * and shared between requests that present the same token.
+ */
+public class VerifiedToken {
+    private final Map<String, Object> claims;
+    private final String username;
+    private final String role;
+    private final String userId;
+    private final Date expiration;
+
+    VerifiedToken(Claims claims) {
+        this.claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+        this.username = claims.getSubject();
+        this.role = claims.get("role", String.class);
+        this.userId = claims.get("userId", String.class);
+        this.expiration = claims.getExpiration();
+    }
+
+    /**
+     * Returns a fresh copy of the claims on every call, since jjwt's {@link Claims} is
+     * mutable and this instance is shared through the token cache.
+     */
+    public Claims getClaims() {
+        return Jwts.claims(new LinkedHashMap<>(claims));
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Date getExpiration() {
+        return expiration == null ? null : new Date(expiration.getTime());
+    }
+
+    /**
+     * Builds a principal from the claims alone. It carries no password and is only
+     * meant to identify the caller for the rest of the request.
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(userId);
+        user.setUsername(username);
+        if (role != null) {
+            user.setRole(role.startsWith("ROLE_") ? role.substring("ROLE_".length()) : role);
+        }
+        return user;
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
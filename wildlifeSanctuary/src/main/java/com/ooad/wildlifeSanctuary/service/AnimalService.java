@@ -1,37 +1,390 @@
 package com.ooad.wildlifeSanctuary.service;
 
+import com.ooad.wildlifeSanctuary.dto.AnimalSearchHit;
+import com.ooad.wildlifeSanctuary.dto.BatchItemResult;
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.dto.SearchPage;
 import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import com.ooad.wildlifeSanctuary.repository.AnimalFilter;
 import com.ooad.wildlifeSanctuary.repository.AnimalRepository;
+import com.ooad.wildlifeSanctuary.repository.AnimalSort;
+import com.ooad.wildlifeSanctuary.repository.CaretakerRepository;
+import com.ooad.wildlifeSanctuary.repository.HabitatRepository;
+import com.ooad.wildlifeSanctuary.repository.Reassignment;
+import com.ooad.wildlifeSanctuary.service.EntityChangeEvent.ChangeType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Service
 public class AnimalService {
+    private static final int MAX_SEARCH_LENGTH = 200;
+    // Kept by applyHealthStatus; client writes to an animal never overwrite it
+    private static final Set<String> SERVER_MAINTAINED = Set.of("healthStatusAt");
+    private static final Set<String> BATCH_PRESERVED = Set.of("habitatId", "healthStatusAt");
+
     @Autowired
     private AnimalRepository animalRepository;
 
+    @Autowired
+    private HabitatRepository habitatRepository;
+
+    @Autowired
+    private CaretakerRepository caretakerRepository;
+
+    @Autowired
+    private BatchWriter batchWriter;
+
+    @Autowired
+    private PartialUpdater partialUpdater;
+
+    @Autowired
+    private EntityChanges entityChanges;
+
+    @Autowired
+    private EntityCache entityCache;
+
+    @Autowired
+    private AnimalSuggestionIndex suggestionIndex;
+
+    @Autowired
+    private FieldSelections fieldSelections;
+
     public List<Animal> getAllAnimals() {
         return animalRepository.findAll();
     }
 
+    public CursorPage<Animal> getAnimalsPage(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                animalRepository::findAllBy, animalRepository::findByIdGreaterThan, Animal::getId);
+    }
+
+    public List<?> getAllAnimals(FieldSelection<Animal> selection) {
+        return selection.isAll()
+                ? getAllAnimals()
+                : selection.shape(fieldSelections.find(Animal.class, new Query(), selection));
+    }
+
+    public CursorPage<?> getAnimalsPage(String cursor, Integer limit, FieldSelection<Animal> selection) {
+        return selection.isAll()
+                ? getAnimalsPage(cursor, limit)
+                : selection.shape(fieldSelections.findPage(Animal.class, new Query(), cursor, limit, selection));
+    }
+
+    public CursorPage<?> queryAnimals(AnimalFilter filter, String sort, String cursor, Integer limit,
+                                      FieldSelection<Animal> selection) {
+        if (filter.bornFrom() != null && filter.bornTo() != null && filter.bornFrom().isAfter(filter.bornTo())) {
+            throw new IllegalArgumentException("bornFrom must not be after bornTo");
+        }
+        AnimalSort animalSort = AnimalSort.fromParameter(sort);
+        Pageable pageable = CursorPage.pageRequest(limit);
+        // The cursor is built from the sort key, so it is loaded even when not selected
+        Set<String> fields = animalSort.getProperty() == null
+                ? selection.fieldsToLoad()
+                : selection.fieldsToLoad(animalSort.getProperty());
+        Slice<Animal> slice = animalRepository.findByFilter(filter, animalSort, CursorPage.decodeCursor(cursor),
+                pageable.getPageSize(), fields);
+        return selection.shape(CursorPage.of(slice, animalSort::keyOf));
+    }
+
+    public SearchPage<AnimalSearchHit> searchAnimals(String text, Integer page, Integer limit) {
+        String query = text == null ? "" : text.strip();
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (query.length() > MAX_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_SEARCH_LENGTH + " characters");
+        }
+        int pageNumber = page == null ? 0 : page;
+        int size = limit == null ? SearchPage.DEFAULT_LIMIT : Math.min(limit, SearchPage.MAX_LIMIT);
+        if (pageNumber < 0 || size < 1) {
+            throw new IllegalArgumentException("page must be at least 0 and limit at least 1");
+        }
+        List<AnimalSearchHit> fetched = animalRepository.searchByText(query, (long) pageNumber * size, size + 1);
+        return SearchPage.of(query, fetched, pageNumber, size);
+    }
+
+    public Map<String, List<String>> suggest(String prefix, Integer limit) {
+        int size = limit == null ? AnimalSuggestionIndex.DEFAULT_LIMIT : Math.min(limit, AnimalSuggestionIndex.MAX_LIMIT);
+        if (size < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        Map<String, List<String>> suggestions = new LinkedHashMap<>();
+        suggestions.put("names", suggestionIndex.suggestNames(prefix, size));
+        suggestions.put("species", suggestionIndex.suggestSpecies(prefix, size));
+        return suggestions;
+    }
+
+    public int rebuildSuggestions() {
+        return suggestionIndex.rebuild();
+    }
+
     public Optional<Animal> getAnimalById(String id) {
-        return animalRepository.findById(id);
+        return entityCache.get(Animal.class, id, animalRepository::findById);
     }
 
     public Animal createAnimal(Animal animal) {
-        return animalRepository.save(animal);
+        reserveHabitatSlots(animal.getHabitatId(), 1);
+        Animal created;
+        try {
+            created = animalRepository.insert(animal);
+        } catch (RuntimeException e) {
+            releaseHabitatSlots(animal.getHabitatId(), 1);
+            throw e;
+        }
+        entityChanges.created(Animal.class, created.getId());
+        return created;
     }
 
     public Animal updateAnimal(String id, Animal animal) {
         animal.setId(id);
-        return animalRepository.save(animal);
+        Map<String, String> current = animalRepository.findHabitatIdsByIds(List.of(id));
+        if (!current.containsKey(id)) {
+            // PUT on an unknown id creates the animal, as it always has
+            return createAnimal(animal);
+        }
+        String previousHabitatId = current.get(id);
+        Animal updated = writeWithHabitatMove(id, previousHabitatId, animal.getHabitatId(), () -> partialUpdater.replace(
+                Animal.class, where("id").is(id).and("habitatId").is(previousHabitatId), animal, SERVER_MAINTAINED, false));
+        entityChanges.updated(Animal.class, id);
+        return updated;
+    }
+
+    public Optional<Animal> patchAnimal(String id, Map<String, Object> changes) {
+        if (changes == null || !changes.containsKey("habitatId")) {
+            Optional<Animal> patched = partialUpdater.patch(Animal.class, id, changes, SERVER_MAINTAINED);
+            patched.ifPresent(animal -> entityChanges.updated(Animal.class, id));
+            return patched;
+        }
+        if (changes.get("habitatId") != null && !(changes.get("habitatId") instanceof String)) {
+            throw new IllegalArgumentException("Invalid value for field: habitatId");
+        }
+        Map<String, String> current = animalRepository.findHabitatIdsByIds(List.of(id));
+        if (!current.containsKey(id)) {
+            return Optional.empty();
+        }
+        String previousHabitatId = current.get(id);
+        Animal patched = writeWithHabitatMove(id, previousHabitatId, (String) changes.get("habitatId"), () -> partialUpdater.patch(
+                Animal.class, where("id").is(id).and("habitatId").is(previousHabitatId), changes, SERVER_MAINTAINED));
+        entityChanges.updated(Animal.class, id);
+        return Optional.of(patched);
     }
 
     public void deleteAnimal(String id) {
-        animalRepository.deleteById(id);
+        Animal removed = animalRepository.findAndDeleteById(id);
+        if (removed != null) {
+            releaseHabitatSlots(removed.getHabitatId(), 1);
+            entityChanges.deleted(Animal.class, id);
+        }
+    }
+
+    /**
+     * Habitat slots are reserved per habitat for the whole batch, so a habitat without room
+     * for all of its requested animals rejects each of them; slots held for animals that
+     * were not inserted are given back afterwards.
+     */
+    public BatchResult createAnimals(List<Animal> animals, boolean ordered) {
+        Map<String, Integer> requested = new HashMap<>();
+        for (Animal animal : animals) {
+            if (animal.getHabitatId() != null) {
+                requested.merge(animal.getHabitatId(), 1, Integer::sum);
+            }
+        }
+        Map<String, String> unavailable = new HashMap<>();
+        requested.forEach((habitatId, count) -> {
+            try {
+                reserveHabitatSlots(habitatId, count);
+            } catch (HabitatCapacityExceededException | IllegalArgumentException e) {
+                unavailable.put(habitatId, e.getMessage());
+            }
+        });
+
+        BatchResult result;
+        try {
+            result = batchWriter.insertAll(Animal.class, "animal", animals, ordered, Animal::getId, Animal::setId,
+                    animal -> animal.getHabitatId() == null ? null : unavailable.get(animal.getHabitatId()));
+        } catch (RuntimeException e) {
+            requested.forEach((habitatId, count) -> {
+                if (!unavailable.containsKey(habitatId)) {
+                    releaseHabitatSlots(habitatId, count);
+                }
+            });
+            throw e;
+        }
+
+        Map<String, Integer> unused = new HashMap<>();
+        for (BatchItemResult item : result.getResults()) {
+            String habitatId = animals.get(item.getIndex()).getHabitatId();
+            if (!item.isSuccessful() && habitatId != null && !unavailable.containsKey(habitatId)) {
+                unused.merge(habitatId, 1, Integer::sum);
+            }
+        }
+        unused.forEach(this::releaseHabitatSlots);
+        entityChanges.batch(Animal.class, result, ChangeType.CREATED);
+        return result;
+    }
+
+    /**
+     * Batch updates keep each animal's stored habitat: moves go through PATCH or the
+     * reassign endpoint, where occupancy is settled per move.
+     */
+    public BatchResult updateAnimals(List<Animal> animals, boolean ordered) {
+        List<String> ids = animals.stream().map(Animal::getId).filter(Objects::nonNull).toList();
+        Map<String, String> habitatIds = animalRepository.findHabitatIdsByIds(ids);
+        BatchResult result = batchWriter.replaceAll(Animal.class, "animal", animals, ordered, Animal::getId,
+                animal -> Objects.equals(habitatIds.get(animal.getId()), animal.getHabitatId())
+                        ? null
+                        : "habitatId cannot be changed in a batch update",
+                animal -> partialUpdater.toReplacement(animal, BATCH_PRESERVED));
+        entityChanges.batch(Animal.class, result, ChangeType.UPDATED);
+        return result;
+    }
+
+    /**
+     * Moves all animals of one habitat, optionally only those of one species, to another
+     * habitat with a single multi-document update, and moves their ids between the two
+     * habitats' animalIds lists. The target must have room for all of them.
+     *
+     * @return the number of animals moved
+     */
+    public long reassignHabitat(String fromHabitatId, String toHabitatId, String species) {
+        if (fromHabitatId.equals(toHabitatId)) {
+            return 0;
+        }
+        if (!habitatRepository.existsById(toHabitatId)) {
+            throw new IllegalArgumentException("No habitat with id " + toHabitatId);
+        }
+        List<String> animalIds = animalRepository.findIdsByHabitatId(fromHabitatId, species);
+        reserveHabitatSlots(toHabitatId, animalIds.size());
+        Reassignment reassignment;
+        try {
+            reassignment = animalRepository.updateHabitatId(animalIds, fromHabitatId, toHabitatId);
+        } catch (RuntimeException e) {
+            releaseHabitatSlots(toHabitatId, animalIds.size());
+            throw e;
+        }
+        long moved = reassignment.modifiedCount();
+        // Animals moved elsewhere in the meantime were not updated and do not need their slot
+        releaseHabitatSlots(toHabitatId, (int) (animalIds.size() - moved));
+        releaseHabitatSlots(fromHabitatId, (int) moved);
+        habitatRepository.transferAnimalIds(fromHabitatId, toHabitatId, reassignment.movedIds());
+        entityChanges.updated(Animal.class, reassignment.movedIds());
+        entityChanges.updated(Habitat.class, fromHabitatId, toHabitatId);
+        return moved;
+    }
+
+    /**
+     * Hands all animals of one caretaker over to another, keeping both caretakers'
+     * assignedAnimalIds lists in step.
+     *
+     * @return the number of animals reassigned
+     */
+    public long reassignCaretaker(String fromCaretakerId, String toCaretakerId) {
+        if (fromCaretakerId.equals(toCaretakerId)) {
+            return 0;
+        }
+        if (!caretakerRepository.existsById(toCaretakerId)) {
+            throw new IllegalArgumentException("No caretaker with id " + toCaretakerId);
+        }
+        List<String> animalIds = animalRepository.findIdsByCaretakerId(fromCaretakerId);
+        Reassignment reassignment = animalRepository.updateCaretakerId(animalIds, fromCaretakerId, toCaretakerId);
+        caretakerRepository.transferAnimalIds(fromCaretakerId, toCaretakerId, reassignment.movedIds());
+        entityChanges.updated(Animal.class, reassignment.movedIds());
+        entityChanges.updated(Caretaker.class, fromCaretakerId, toCaretakerId);
+        return reassignment.modifiedCount();
+    }
+
+    /**
+     * Makes a health reading's status the animal's current one, unless a reading taken
+     * later has already set it.
+     *
+     * @return whether the status was applied
+     */
+    public boolean applyHealthStatus(String id, String healthStatus, Instant at) {
+        boolean applied = animalRepository.updateHealthStatusIfNewer(id, healthStatus, at);
+        if (applied) {
+            entityChanges.updated(Animal.class, id);
+        }
+        return applied;
+    }
+
+    /**
+     * Rebuilds every habitat's occupancy counter from the animals actually stored, for
+     * data written before capacities existed or changed outside this service.
+     */
+    public void recountHabitatOccupancy() {
+        habitatRepository.resetOccupancy(animalRepository.countAnimalsByHabitat());
+        entityChanges.all(Habitat.class);
+    }
+
+    /**
+     * Runs a write that may move an animal between habitats. A slot in the target is
+     * reserved first and the write only applies while the animal is still in the habitat
+     * that was read, so a concurrent move makes this one fail instead of skewing the counts.
+     */
+    private Animal writeWithHabitatMove(String id, String previousHabitatId, String targetHabitatId,
+                                        Supplier<Optional<Animal>> write) {
+        boolean moving = !Objects.equals(previousHabitatId, targetHabitatId);
+        if (moving) {
+            reserveHabitatSlots(targetHabitatId, 1);
+        }
+        Optional<Animal> written;
+        try {
+            written = write.get();
+        } catch (RuntimeException e) {
+            if (moving) {
+                releaseHabitatSlots(targetHabitatId, 1);
+            }
+            throw e;
+        }
+        if (written.isEmpty()) {
+            if (moving) {
+                releaseHabitatSlots(targetHabitatId, 1);
+            }
+            throw new OptimisticLockingFailureException("Animal " + id + " was changed concurrently, please retry");
+        }
+        if (moving) {
+            releaseHabitatSlots(previousHabitatId, 1);
+        }
+        return written.get();
+    }
+
+    private void reserveHabitatSlots(String habitatId, int count) {
+        if (habitatId == null || count == 0) {
+            return;
+        }
+        if (!habitatRepository.reserveCapacity(habitatId, count)) {
+            if (!habitatRepository.existsById(habitatId)) {
+                throw new IllegalArgumentException("No habitat with id " + habitatId);
+            }
+            throw new HabitatCapacityExceededException(habitatId);
+        }
+        entityChanges.updated(Habitat.class, habitatId);
+    }
+
+    private void releaseHabitatSlots(String habitatId, int count) {
+        if (habitatId != null && count > 0) {
+            habitatRepository.releaseCapacity(habitatId, count);
+            entityChanges.updated(Habitat.class, habitatId);
+        }
     }
 
     public List<Animal> getAnimalsByHabitat(String habitatId) {
@@ -41,4 +394,54 @@ public class AnimalService {
     public List<Animal> getAnimalsByCaretaker(String caretakerId) {
         return animalRepository.findByCaretakerId(caretakerId);
     }
-} 
\ No newline at end of file
+
+    public Map<String, List<String>> getAnimalIdsByHabitat() {
+        return animalRepository.findAnimalIdsGroupedByHabitat();
+    }
+
+    public Map<String, List<String>> getAnimalIdsByCaretaker() {
+        return animalRepository.findAnimalIdsGroupedByCaretaker();
+    }
+
+    public CursorPage<Animal> getAnimalsByHabitatPage(String habitatId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                pageable -> animalRepository.findByHabitatId(habitatId, pageable),
+                (afterId, pageable) -> animalRepository.findByHabitatIdAndIdGreaterThan(habitatId, afterId, pageable),
+                Animal::getId);
+    }
+
+    public List<?> getAnimalsByHabitat(String habitatId, FieldSelection<Animal> selection) {
+        return selection.isAll()
+                ? getAnimalsByHabitat(habitatId)
+                : selection.shape(fieldSelections.find(Animal.class, new Query(where("habitatId").is(habitatId)), selection));
+    }
+
+    public CursorPage<?> getAnimalsByHabitatPage(String habitatId, String cursor, Integer limit,
+                                                 FieldSelection<Animal> selection) {
+        return selection.isAll()
+                ? getAnimalsByHabitatPage(habitatId, cursor, limit)
+                : selection.shape(fieldSelections.findPage(Animal.class, new Query(where("habitatId").is(habitatId)),
+                        cursor, limit, selection));
+    }
+
+    public List<?> getAnimalsByCaretaker(String caretakerId, FieldSelection<Animal> selection) {
+        return selection.isAll()
+                ? getAnimalsByCaretaker(caretakerId)
+                : selection.shape(fieldSelections.find(Animal.class, new Query(where("caretakerId").is(caretakerId)), selection));
+    }
+
+    public CursorPage<?> getAnimalsByCaretakerPage(String caretakerId, String cursor, Integer limit,
+                                                   FieldSelection<Animal> selection) {
+        return selection.isAll()
+                ? getAnimalsByCaretakerPage(caretakerId, cursor, limit)
+                : selection.shape(fieldSelections.findPage(Animal.class, new Query(where("caretakerId").is(caretakerId)),
+                        cursor, limit, selection));
+    }
+
+    public CursorPage<Animal> getAnimalsByCaretakerPage(String caretakerId, String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                pageable -> animalRepository.findByCaretakerId(caretakerId, pageable),
+                (afterId, pageable) -> animalRepository.findByCaretakerIdAndIdGreaterThan(caretakerId, afterId, pageable),
+                Animal::getId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,285 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * In-memory prefix index over animal names and species for type-ahead. Each value is
+ * indexed under its normalized form and under every later word, so "leo" finds
+ * "Snow Leopard". Lookups are a range scan of a sorted map and never touch Mongo.
+ *
+ * <p>The index is loaded when the application is ready and kept current from
+ * {@link EntityChangeEvent}s, including those replayed from other nodes. Memory is
+ * bounded by {@code app.suggest.max-terms}; values beyond it are simply not suggested
+ * until a rebuild finds room.
+ */
+@Component
+public class AnimalSuggestionIndex {
+    private static final Logger log = LoggerFactory.getLogger(AnimalSuggestionIndex.class);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_VALUE_LENGTH = 100;
+    // Separates the matched suffix from the full value in a key, sorting before any text
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${app.suggest.max-terms:500000}")
+    private int maxTerms = 500_000;
+
+    @Value("${app.suggest.load-on-startup:true}")
+    private boolean loadOnStartup;
+
+    private final Object writeLock = new Object();
+    private volatile Terms terms = new Terms();
+    // Ids written while a rebuild was reading the collection, re-read once it is swapped in
+    private Set<String> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!loadOnStartup) {
+            return;
+        }
+        try {
+            int size = rebuild();
+            log.info("Loaded {} animal suggestion terms", size);
+        } catch (RuntimeException e) {
+            log.warn("Could not load animal suggestions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Re-reads every animal into a fresh index and swaps it in. Lookups keep using the old
+     * index until then.
+     *
+     * @return the number of indexed terms
+     */
+    public synchronized int rebuild() {
+        synchronized (writeLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        Terms rebuilt = new Terms();
+        try (CloseableIterator<Animal> animals = mongoTemplate.stream(projection(new Query()), Animal.class)) {
+            animals.forEachRemaining(animal -> rebuilt.put(animal.getId(), animal.getName(), animal.getSpecies(), maxTerms));
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+        Set<String> changed;
+        synchronized (writeLock) {
+            terms = rebuilt;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        }
+        if (!changed.isEmpty()) {
+            refresh(changed);
+        }
+        return rebuilt.size();
+    }
+
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        if (event.getEntityType() != Animal.class) {
+            return;
+        }
+        try {
+            if (event.isWholeType()) {
+                rebuild();
+            } else if (event.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+                synchronized (writeLock) {
+                    event.getIds().forEach(this::removeLocked);
+                }
+            } else {
+                refresh(event.getIds());
+            }
+        } catch (RuntimeException e) {
+            // The write itself succeeded; a stale suggestion is not worth failing it over
+            log.warn("Could not update animal suggestions: {}", e.getMessage());
+        }
+    }
+
+    public List<String> suggestNames(String prefix, int limit) {
+        return suggest(terms.names, prefix, limit);
+    }
+
+    public List<String> suggestSpecies(String prefix, int limit) {
+        return suggest(terms.species, prefix, limit);
+    }
+
+    public int size() {
+        return terms.size();
+    }
+
+    void put(String id, String name, String species) {
+        synchronized (writeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(id);
+            }
+            terms.put(id, name, species, maxTerms);
+        }
+    }
+
+    private void refresh(Collection<String> ids) {
+        Map<String, Animal> current = new HashMap<>();
+        for (Animal animal : mongoTemplate.find(projection(new Query(where("id").in(ids))), Animal.class)) {
+            current.put(animal.getId(), animal);
+        }
+        synchronized (writeLock) {
+            for (String id : ids) {
+                Animal animal = current.get(id);
+                if (animal == null) {
+                    removeLocked(id);
+                } else {
+                    put(id, animal.getName(), animal.getSpecies());
+                }
+            }
+        }
+    }
+
+    private void removeLocked(String id) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.add(id);
+        }
+        terms.remove(id);
+    }
+
+    private static Query projection(Query query) {
+        query.fields().include("id", "name", "species");
+        return query;
+    }
+
+    private static List<String> suggest(NavigableMap<String, Term> index, String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        // Every key starting with the prefix sorts between it and the prefix followed by the highest char
+        Set<String> matches = new LinkedHashSet<>();
+        for (Term term : index.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values()) {
+            if (matches.add(term.display()) && matches.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(matches);
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        String normalized = WHITESPACE.matcher(stripped.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_VALUE_LENGTH ? normalized.substring(0, MAX_VALUE_LENGTH) : normalized;
+    }
+
+    // The normalized value and each of its later words, each keyed to the full value
+    static List<String> keys(String normalized) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized + KEY_SEPARATOR + normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1) + KEY_SEPARATOR + normalized);
+        }
+        return keys;
+    }
+
+    private record Term(String display, int count) {
+    }
+
+    /**
+     * One generation of the index. Lookups read the sorted maps without locking; all
+     * writes happen under the owning index's write lock.
+     */
+    private static final class Terms {
+        private final ConcurrentSkipListMap<String, Term> names = new ConcurrentSkipListMap<>();
+        private final ConcurrentSkipListMap<String, Term> species = new ConcurrentSkipListMap<>();
+        // What each animal contributed, so an update or delete can take it back out
+        private final Map<String, String[]> valuesById = new HashMap<>();
+
+        void put(String id, String name, String speciesName, int maxTerms) {
+            remove(id);
+            String[] values = {add(names, name, maxTerms), add(species, speciesName, maxTerms)};
+            if (values[0] != null || values[1] != null) {
+                valuesById.put(id, values);
+            }
+        }
+
+        void remove(String id) {
+            String[] values = valuesById.remove(id);
+            if (values != null) {
+                release(names, values[0]);
+                release(species, values[1]);
+            }
+        }
+
+        int size() {
+            return names.size() + species.size();
+        }
+
+        private String add(ConcurrentSkipListMap<String, Term> index, String value, int maxTerms) {
+            String normalized = normalize(value);
+            if (normalized.isEmpty()) {
+                return null;
+            }
+            List<String> keys = keys(normalized);
+            Term existing = index.get(keys.get(0));
+            if (existing == null && size() + keys.size() > maxTerms) {
+                return null;
+            }
+            String display = existing == null ? value.strip() : existing.display();
+            int count = existing == null ? 1 : existing.count() + 1;
+            for (String key : keys) {
+                index.put(key, new Term(display, count));
+            }
+            return normalized;
+        }
+
+        private static void release(ConcurrentSkipListMap<String, Term> index, String normalized) {
+            if (normalized == null) {
+                return;
+            }
+            List<String> keys = keys(normalized);
+            Term existing = index.get(keys.get(0));
+            if (existing == null) {
+                return;
+            }
+            for (String key : keys) {
+                if (existing.count() <= 1) {
+                    index.remove(key);
+                } else {
+                    index.put(key, new Term(existing.display(), existing.count() - 1));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.AuditEvent;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import com.ooad.wildlifeSanctuary.model.User;
+import com.ooad.wildlifeSanctuary.repository.AuditEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Records who changed which entity and when, from the {@link EntityChangeEvent}s the
+ * service layer already publishes. Events are captured on the writing thread, which is
+ * where the actor is known, but only put on a bounded queue; a background writer inserts
+ * them into {@code audit_events} in batches of up to {@code app.audit.batch-size}, or
+ * whatever has arrived once {@code app.audit.flush-interval} has passed.
+ *
+ * <p>When the queue is full, {@code app.audit.overflow-policy} decides: CALLER_RUNS writes
+ * the event on the writing thread, BLOCK waits up to {@code app.audit.block-timeout} for
+ * space, and DROP discards it. Dropped events are counted in {@code audit.events.dropped}.
+ * On shutdown the writer drains the queue before the Mongo client is closed.
+ *
+ * <p>Remote events are not recorded; the node that made the change records it.
+ */
+@Component
+public class AuditLog {
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final Map<String, Class<?>> ENTITY_TYPES = Map.of(
+            "animal", Animal.class,
+            "habitat", Habitat.class,
+            "caretaker", Caretaker.class,
+            "user", User.class);
+    private static final Map<Class<?>, String> TYPE_NAMES = ENTITY_TYPES.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    public enum OverflowPolicy { CALLER_RUNS, BLOCK, DROP }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private AuditEventRepository auditEventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.audit.flush-interval:1s}")
+    private Duration flushInterval;
+
+    @Value("${app.audit.overflow-policy:CALLER_RUNS}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${app.audit.block-timeout:100ms}")
+    private Duration blockTimeout;
+
+    @Value("${app.audit.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.audit.retry-delay:1s}")
+    private Duration retryDelay;
+
+    @Value("${app.audit.shutdown-timeout:10s}")
+    private Duration shutdownTimeout;
+
+    private BlockingQueue<AuditEvent> queue;
+    private volatile boolean running;
+    private Thread writer;
+    private Counter written;
+    private Timer flushes;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        written = meterRegistry.counter("audit.events.written");
+        flushes = Timer.builder("audit.flush").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        Gauge.builder("audit.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(shutdownTimeout.toMillis());
+        if (writer.isAlive()) {
+            writer.interrupt();
+            int remaining = queue.size();
+            if (remaining > 0) {
+                dropped("shutdown", remaining);
+                log.warn("Dropped {} audit events still queued after {}", remaining, shutdownTimeout);
+            }
+            return;
+        }
+        // Events enqueued between the writer's last check and its exit
+        List<AuditEvent> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            write(rest, 1);
+        }
+    }
+
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        String entityType = TYPE_NAMES.get(event.getEntityType());
+        if (!enabled || event.isRemote() || entityType == null) {
+            return;
+        }
+        String actor = currentActor();
+        Instant at = Instant.now();
+        Collection<String> ids = event.isWholeType() ? Collections.singletonList(null) : event.getIds();
+        for (String entityId : ids) {
+            enqueue(new AuditEvent(new ObjectId().toHexString(), entityType, entityId,
+                    event.getChangeType().name(), actor, at));
+        }
+    }
+
+    /**
+     * Newest-first history of one entity. Events still waiting in the queue are not
+     * included yet.
+     */
+    public CursorPage<AuditEvent> getHistory(String entityType, String entityId, String cursor, Integer limit) {
+        if (!ENTITY_TYPES.containsKey(entityType)) {
+            throw new IllegalArgumentException("Unknown entity type '" + entityType + "', expected one of "
+                    + ENTITY_TYPES.keySet().stream().sorted().toList());
+        }
+        Pageable pageable = PageRequest.of(0, CursorPage.pageRequest(limit).getPageSize(), Sort.by(Sort.Direction.DESC, "id"));
+        return CursorPage.fetch(cursor, pageable,
+                page -> auditEventRepository.findByEntityTypeAndEntityId(entityType, entityId, page),
+                (beforeId, page) -> auditEventRepository.findByEntityTypeAndEntityIdAndIdLessThan(entityType, entityId, beforeId, page),
+                AuditEvent::getId);
+    }
+
+    private void enqueue(AuditEvent event) {
+        if (!running) {
+            // Changes made while the application shuts down, after the writer has stopped
+            write(List.of(event), 1);
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS -> write(List.of(event), 1);
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(event, blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                        dropped("overflow", 1);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped("overflow", 1);
+                }
+            }
+            case DROP -> dropped("overflow", 1);
+        }
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                AuditEvent first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    AuditEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch, maxAttempts);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Inserts the batch unordered and retries only the events that failed. Ids are fixed
+     * before the first attempt, so a duplicate key on a retry means an earlier attempt
+     * already wrote that event.
+     */
+    private void write(List<AuditEvent> batch, int attempts) {
+        List<AuditEvent> pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            String failure;
+            try {
+                pending = insertUnordered(pending);
+                if (pending.isEmpty()) {
+                    return;
+                }
+                failure = pending.size() + " events rejected";
+            } catch (RuntimeException e) {
+                failure = e.getMessage();
+            }
+            if (attempt >= attempts) {
+                dropped("error", pending.size());
+                log.warn("Could not write {} audit events: {}", pending.size(), failure);
+                return;
+            }
+            log.debug("Audit write failed, retrying {} events in {}: {}", pending.size(), retryDelay, failure);
+            try {
+                Thread.sleep(retryDelay.toMillis());
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                dropped("error", pending.size());
+                return;
+            }
+        }
+    }
+
+    // Returns the events that still have to be written
+    private List<AuditEvent> insertUnordered(List<AuditEvent> events) {
+        try {
+            flushes.record(() -> mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditEvent.class)
+                    .insert(events)
+                    .execute());
+            written.increment(events.size());
+            return List.of();
+        } catch (BulkOperationException e) {
+            Set<Integer> failed = e.getErrors().stream()
+                    .filter(error -> error.getCode() != DUPLICATE_KEY)
+                    .map(BulkWriteError::getIndex)
+                    .collect(Collectors.toSet());
+            written.increment(events.size() - failed.size());
+            return IntStream.range(0, events.size())
+                    .filter(failed::contains)
+                    .mapToObj(events::get)
+                    .toList();
+        }
+    }
+
+    private void dropped(String reason, int count) {
+        meterRegistry.counter("audit.events.dropped", "reason", reason).increment(count);
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,200 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.ooad.wildlifeSanctuary.dto.BatchItemResult;
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Writes many entities with one Mongo bulk operation and reports the outcome per element.
+ * In ordered mode processing stops at the first failure and later elements are reported
+ * as skipped; in unordered mode every element is attempted.
+ */
+@Component
+public class BatchWriter {
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${app.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    public <T> BatchResult insertAll(Class<T> entityType, String entityName, List<T> entities, boolean ordered,
+                                     Function<T, String> idGetter, BiConsumer<T, String> idSetter) {
+        return insertAll(entityType, entityName, entities, ordered, idGetter, idSetter, entity -> null);
+    }
+
+    /**
+     * @param rejection returns why an element must not be written, or null to write it;
+     *                  rejected elements are reported as failed without reaching Mongo
+     */
+    public <T> BatchResult insertAll(Class<T> entityType, String entityName, List<T> entities, boolean ordered,
+                                     Function<T, String> idGetter, BiConsumer<T, String> idSetter,
+                                     Function<T, String> rejection) {
+        checkSize(entities);
+        if (entities.isEmpty()) {
+            return new BatchResult(ordered, List.of());
+        }
+        // Assign ids up front so every element can be reported by id, including failed ones
+        for (T entity : entities) {
+            if (idGetter.apply(entity) == null) {
+                idSetter.accept(entity, new ObjectId().toHexString());
+            }
+        }
+
+        BatchItemResult[] results = new BatchItemResult[entities.size()];
+        List<Integer> bulkPositions = new ArrayList<>();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(bulkMode(ordered), entityType);
+        boolean stopped = false;
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+            String id = idGetter.apply(entity);
+            String rejected = stopped ? null : rejection.apply(entity);
+            if (stopped) {
+                results[i] = BatchItemResult.skipped(i, id);
+            } else if (rejected != null) {
+                results[i] = BatchItemResult.failed(i, id, rejected);
+                stopped = ordered;
+            } else {
+                bulkOps.insert(entity);
+                bulkPositions.add(i);
+            }
+        }
+
+        Map<Integer, String> errors = bulkPositions.isEmpty() ? Map.of() : execute(bulkOps, entityName);
+        report(results, bulkPositions, errors, ordered, i -> idGetter.apply(entities.get(i)), BatchItemResult::created);
+        return new BatchResult(ordered, List.of(results));
+    }
+
+    public <T> BatchResult replaceAll(Class<T> entityType, String entityName, List<T> entities, boolean ordered,
+                                      Function<T, String> idGetter) {
+        return replaceAll(entityType, entityName, entities, ordered, idGetter, entity -> null, null);
+    }
+
+    /**
+     * @param rejection     returns why an element must not be written, or null to write it
+     * @param updateBuilder turns an element into the update applied to its stored document;
+     *                      null replaces the whole document
+     */
+    public <T> BatchResult replaceAll(Class<T> entityType, String entityName, List<T> entities, boolean ordered,
+                                      Function<T, String> idGetter, Function<T, String> rejection,
+                                      Function<T, Update> updateBuilder) {
+        checkSize(entities);
+        if (entities.isEmpty()) {
+            return new BatchResult(ordered, List.of());
+        }
+
+        // One lookup for all ids, so missing documents are reported rather than silently ignored
+        List<String> ids = entities.stream().map(idGetter).filter(Objects::nonNull).toList();
+        Query existingQuery = new Query(where("id").in(ids));
+        existingQuery.fields().include("id");
+        Set<String> existingIds = new HashSet<>();
+        for (T existing : mongoTemplate.find(existingQuery, entityType)) {
+            existingIds.add(idGetter.apply(existing));
+        }
+
+        BatchItemResult[] results = new BatchItemResult[entities.size()];
+        List<Integer> bulkPositions = new ArrayList<>();
+        BulkOperations bulkOps = mongoTemplate.bulkOps(bulkMode(ordered), entityType);
+        boolean stopped = false;
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+            String id = idGetter.apply(entity);
+            String rejected = stopped || id == null || !existingIds.contains(id) ? null : rejection.apply(entity);
+            if (stopped) {
+                results[i] = BatchItemResult.skipped(i, id);
+            } else if (id == null) {
+                results[i] = BatchItemResult.failed(i, null, "id is required");
+                stopped = ordered;
+            } else if (!existingIds.contains(id)) {
+                results[i] = BatchItemResult.failed(i, id, "No " + entityName + " with this id");
+                stopped = ordered;
+            } else if (rejected != null) {
+                results[i] = BatchItemResult.failed(i, id, rejected);
+                stopped = ordered;
+            } else if (updateBuilder == null) {
+                bulkOps.replaceOne(new Query(where("id").is(id)), entity);
+                bulkPositions.add(i);
+            } else {
+                bulkOps.updateOne(new Query(where("id").is(id)), updateBuilder.apply(entity));
+                bulkPositions.add(i);
+            }
+        }
+
+        Map<Integer, String> errors = bulkPositions.isEmpty() ? Map.of() : execute(bulkOps, entityName);
+        report(results, bulkPositions, errors, ordered, i -> idGetter.apply(entities.get(i)), BatchItemResult::updated);
+        return new BatchResult(ordered, List.of(results));
+    }
+
+    // Fills in the outcome of every element that was part of the bulk write
+    private static void report(BatchItemResult[] results, List<Integer> bulkPositions, Map<Integer, String> errors,
+                               boolean ordered, IntFunction<String> idAt,
+                               BiFunction<Integer, String, BatchItemResult> success) {
+        int firstError = errors.keySet().stream().min(Integer::compare).orElse(Integer.MAX_VALUE);
+        for (int bulkIndex = 0; bulkIndex < bulkPositions.size(); bulkIndex++) {
+            int i = bulkPositions.get(bulkIndex);
+            String id = idAt.apply(i);
+            if (errors.containsKey(bulkIndex)) {
+                results[i] = BatchItemResult.failed(i, id, errors.get(bulkIndex));
+            } else if (ordered && bulkIndex > firstError) {
+                results[i] = BatchItemResult.skipped(i, id);
+            } else {
+                results[i] = success.apply(i, id);
+            }
+        }
+    }
+
+    private void checkSize(List<?> entities) {
+        if (entities.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size " + entities.size() + " exceeds the limit of " + maxBatchSize);
+        }
+    }
+
+    private static BulkOperations.BulkMode bulkMode(boolean ordered) {
+        return ordered ? BulkOperations.BulkMode.ORDERED : BulkOperations.BulkMode.UNORDERED;
+    }
+
+    private static Map<Integer, String> execute(BulkOperations bulkOps, String entityName) {
+        try {
+            bulkOps.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            Map<Integer, String> errors = new HashMap<>();
+            for (BulkWriteError error : e.getErrors()) {
+                errors.put(error.getIndex(), describe(error, entityName));
+            }
+            return errors;
+        }
+    }
+
+    private static String describe(BulkWriteError error, String entityName) {
+        if (error.getCode() == DUPLICATE_KEY_ERROR) {
+            String field = DuplicateFieldException.collidingField(error.getMessage());
+            return "A " + entityName + " with this " + (field == null ? "key" : field) + " already exists";
+        }
+        return error.getMessage();
+    }
+}
@@ -0,0 +1,224 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import com.ooad.wildlifeSanctuary.service.EntityChangeEvent.ChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.CollectionOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Carries {@link EntityChangeEvent}s between application nodes through a capped Mongo
+ * collection. Local changes are appended as small documents; every node tails the
+ * collection with a tailable await cursor and republishes other nodes' changes as remote
+ * events, which evict the same cache entries a local write would. Needs nothing beyond
+ * the mongod the application already uses, standalone included.
+ *
+ * <p>Invalidations are idempotent, so the tail starts, and resumes after a lost cursor, a
+ * few seconds before the newest message seen rather than trying to pinpoint it.
+ */
+@Component
+public class CacheInvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final Map<String, Class<?>> ENTITY_TYPES = Map.of(
+            "animal", Animal.class,
+            "habitat", Habitat.class,
+            "caretaker", Caretaker.class);
+    private static final Map<Class<?>, String> TYPE_NAMES = ENTITY_TYPES.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey));
+    private static final Duration RESUME_OVERLAP = Duration.ofSeconds(5);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.cache.invalidation-bus.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.invalidation-bus.collection:cache_invalidations}")
+    private String collectionName;
+
+    @Value("${app.cache.invalidation-bus.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${app.cache.invalidation-bus.max-events:100000}")
+    private long maxEvents;
+
+    @Value("${app.cache.invalidation-bus.await:1s}")
+    private Duration await;
+
+    @Value("${app.cache.invalidation-bus.retry-delay:2s}")
+    private Duration retryDelay;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile boolean running;
+    // Creation time of the newest message seen, or the start time before any arrived
+    private volatile long position;
+    private Thread tailer;
+    private Counter published;
+    private Counter received;
+    private Counter publishFailures;
+    private Timer lag;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        published = meterRegistry.counter("cache.invalidation.published");
+        received = meterRegistry.counter("cache.invalidation.received");
+        publishFailures = meterRegistry.counter("cache.invalidation.publish.failures");
+        // Time from the write on the origin node to the eviction here; includes clock skew between nodes
+        lag = Timer.builder("cache.invalidation.lag").publishPercentiles(0.5, 0.99).register(meterRegistry);
+
+        position = System.currentTimeMillis();
+        running = true;
+        tailer = new Thread(this::tailLoop, "cache-invalidation-tailer");
+        tailer.setDaemon(true);
+        tailer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (tailer != null) {
+            tailer.interrupt();
+        }
+    }
+
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        String type = TYPE_NAMES.get(event.getEntityType());
+        if (!running || event.isRemote() || type == null) {
+            return;
+        }
+        Document message = new Document("_id", new ObjectId())
+                .append("node", nodeId)
+                .append("type", type)
+                .append("ids", List.copyOf(event.getIds()))
+                .append("change", event.getChangeType().name())
+                .append("at", new Date());
+        try {
+            collection().insertOne(message);
+            published.increment();
+        } catch (RuntimeException e) {
+            // The local write already succeeded; other nodes fall back to their cache TTLs
+            publishFailures.increment();
+            log.warn("Could not publish cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void tailLoop() {
+        while (running) {
+            try {
+                ensureCollection();
+                tail();
+            } catch (RuntimeException e) {
+                if (running) {
+                    log.warn("Cache invalidation tail interrupted, retrying in {}: {}", retryDelay, e.getMessage());
+                }
+            }
+            sleep(retryDelay);
+        }
+    }
+
+    private void tail() {
+        Date from = new Date(position - RESUME_OVERLAP.toMillis());
+        try (MongoCursor<Document> cursor = collection()
+                .find(new Document("_id", new Document("$gte", ObjectId.getSmallestWithDate(from))))
+                .cursorType(CursorType.TailableAwait)
+                .maxAwaitTime(await.toMillis(), TimeUnit.MILLISECONDS)
+                .iterator()) {
+            while (running) {
+                Document message = cursor.tryNext();
+                if (message != null) {
+                    receive(message);
+                } else if (cursor.getServerCursor() == null) {
+                    // The server closed the cursor; reopen after a pause
+                    return;
+                }
+            }
+        }
+    }
+
+    void receive(Document message) {
+        position = Math.max(position, message.getObjectId("_id").getDate().getTime());
+        if (nodeId.equals(message.getString("node"))) {
+            return;
+        }
+        Class<?> entityType = ENTITY_TYPES.get(message.getString("type"));
+        if (entityType == null) {
+            return;
+        }
+        received.increment();
+        Date at = message.getDate("at");
+        if (at != null) {
+            lag.record(Math.max(0, System.currentTimeMillis() - at.getTime()), TimeUnit.MILLISECONDS);
+        }
+        eventPublisher.publishEvent(new EntityChangeEvent(entityType, message.getList("ids", String.class),
+                ChangeType.valueOf(message.getString("change")), true));
+    }
+
+    private void ensureCollection() {
+        if (!mongoTemplate.collectionExists(collectionName)) {
+            try {
+                mongoTemplate.createCollection(collectionName,
+                        CollectionOptions.empty().capped().size(maxBytes).maxDocuments(maxEvents));
+                // A tailable cursor on an empty capped collection is closed straight away
+                collection().insertOne(new Document("node", nodeId).append("type", "created").append("at", new Date()));
+            } catch (RuntimeException e) {
+                // Another node created it first
+                if (!mongoTemplate.collectionExists(collectionName)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(collectionName);
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -1,50 +1,118 @@
 package com.ooad.wildlifeSanctuary.service;
 
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
 import com.ooad.wildlifeSanctuary.model.Caretaker;
 import com.ooad.wildlifeSanctuary.repository.CaretakerRepository;
+import com.ooad.wildlifeSanctuary.service.EntityChangeEvent.ChangeType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class CaretakerService {
     @Autowired
     private CaretakerRepository caretakerRepository;
 
+    @Autowired
+    private BatchWriter batchWriter;
+
+    @Autowired
+    private PartialUpdater partialUpdater;
+
+    @Autowired
+    private EntityChanges entityChanges;
+
+    @Autowired
+    private EntityCache entityCache;
+
     @Autowired
     private AnimalService animalService;
 
+    @Autowired
+    private FieldSelections fieldSelections;
+
     public List<Caretaker> getAllCaretakers() {
         return caretakerRepository.findAll();
     }
 
+    public CursorPage<Caretaker> getCaretakersPage(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                caretakerRepository::findAllBy, caretakerRepository::findByIdGreaterThan, Caretaker::getId);
+    }
+
+    public List<?> getAllCaretakers(FieldSelection<Caretaker> selection) {
+        return selection.isAll()
+                ? getAllCaretakers()
+                : selection.shape(fieldSelections.find(Caretaker.class, new Query(), selection));
+    }
+
+    public CursorPage<?> getCaretakersPage(String cursor, Integer limit, FieldSelection<Caretaker> selection) {
+        return selection.isAll()
+                ? getCaretakersPage(cursor, limit)
+                : selection.shape(fieldSelections.findPage(Caretaker.class, new Query(), cursor, limit, selection));
+    }
+
     public Optional<Caretaker> getCaretakerById(String id) {
-        return caretakerRepository.findById(id);
+        return entityCache.get(Caretaker.class, id, caretakerRepository::findById);
     }
 
     public Caretaker createCaretaker(Caretaker caretaker) {
-        // Check if caretaker with same email already exists
-        if (caretakerRepository.findByEmail(caretaker.getEmail()).isPresent()) {
-            throw new DuplicateKeyException("A caretaker with this email already exists");
+        // The unique index on email rejects duplicates, no need to look first
+        Caretaker created;
+        try {
+            created = caretakerRepository.insert(caretaker);
+        } catch (DuplicateKeyException e) {
+            throw DuplicateFieldException.from(e, "caretaker");
         }
-        return caretakerRepository.save(caretaker);
+        entityChanges.created(Caretaker.class, created.getId());
+        return created;
     }
 
     public Caretaker updateCaretaker(String id, Caretaker caretaker) {
-        // Check if the new email is already taken by another caretaker
-        Optional<Caretaker> existingCaretaker = caretakerRepository.findByEmail(caretaker.getEmail());
-        if (existingCaretaker.isPresent() && !existingCaretaker.get().getId().equals(id)) {
-            throw new DuplicateKeyException("A caretaker with this email already exists");
-        }
         caretaker.setId(id);
-        return caretakerRepository.save(caretaker);
+        Caretaker updated;
+        try {
+            updated = caretakerRepository.save(caretaker);
+        } catch (DuplicateKeyException e) {
+            throw DuplicateFieldException.from(e, "caretaker");
+        }
+        entityChanges.updated(Caretaker.class, id);
+        return updated;
+    }
+
+    public Optional<Caretaker> patchCaretaker(String id, Map<String, Object> changes) {
+        Optional<Caretaker> patched;
+        try {
+            patched = partialUpdater.patch(Caretaker.class, id, changes, Set.of());
+        } catch (DuplicateKeyException e) {
+            throw DuplicateFieldException.from(e, "caretaker");
+        }
+        patched.ifPresent(caretaker -> entityChanges.updated(Caretaker.class, id));
+        return patched;
     }
 
     public void deleteCaretaker(String id) {
         caretakerRepository.deleteById(id);
+        entityChanges.deleted(Caretaker.class, id);
+    }
+
+    public BatchResult createCaretakers(List<Caretaker> caretakers, boolean ordered) {
+        BatchResult result = batchWriter.insertAll(Caretaker.class, "caretaker", caretakers, ordered, Caretaker::getId, Caretaker::setId);
+        entityChanges.batch(Caretaker.class, result, ChangeType.CREATED);
+        return result;
+    }
+
+    public BatchResult updateCaretakers(List<Caretaker> caretakers, boolean ordered) {
+        BatchResult result = batchWriter.replaceAll(Caretaker.class, "caretaker", caretakers, ordered, Caretaker::getId);
+        entityChanges.batch(Caretaker.class, result, ChangeType.UPDATED);
+        return result;
     }
 
     public Caretaker getCaretakerByUserId(String userId) {
@@ -53,11 +121,9 @@ public class CaretakerService {
 
     public List<Caretaker> getCaretakersWithAnimals() {
         List<Caretaker> caretakers = caretakerRepository.findAll();
+        Map<String, List<String>> animalIdsByCaretaker = animalService.getAnimalIdsByCaretaker();
         for (Caretaker caretaker : caretakers) {
-            caretaker.setAssignedAnimalIds(animalService.getAnimalsByCaretaker(caretaker.getId())
-                    .stream()
-                    .map(animal -> animal.getId())
-                    .toList());
+            caretaker.setAssignedAnimalIds(animalIdsByCaretaker.getOrDefault(caretaker.getId(), List.of()));
         }
         return caretakers;
     }
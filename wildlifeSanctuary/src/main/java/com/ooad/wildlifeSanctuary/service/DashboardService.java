@@ -0,0 +1,174 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Assembles everything the dashboard page shows in one call. The underlying queries are
+ * independent, so they run concurrently on a dedicated bounded pool and the response
+ * takes about as long as the slowest of them. A query that fails, times out or finds the
+ * pool full is left out and named in {@code unavailable} instead of failing the page.
+ */
+@Service
+public class DashboardService {
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Autowired
+    private HabitatService habitatService;
+
+    @Autowired
+    private CaretakerService caretakerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.dashboard.pool-size:8}")
+    private int poolSize;
+
+    @Value("${app.dashboard.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.dashboard.query-timeout:2s}")
+    private Duration queryTimeout;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("dashboard.query.queue.depth", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("dashboard.query.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public Map<String, Object> getDashboard() {
+        // Submit everything first, then wait; the waits overlap instead of adding up
+        CompletableFuture<Map<String, Object>> animalStatistics = query("animalStatistics", statisticsService::getAnimalStatistics);
+        CompletableFuture<Map<String, Object>> habitatStatistics = query("habitatStatistics", statisticsService::getHabitatStatistics);
+        CompletableFuture<Map<String, Object>> caretakerStatistics = query("caretakerStatistics", statisticsService::getCaretakerStatistics);
+        // Listings are the first keyset page; the client follows nextCursor on the list endpoints
+        CompletableFuture<CursorPage<Habitat>> habitats = query("habitats", () -> habitatService.getHabitatsPage(null, CursorPage.DEFAULT_LIMIT));
+        CompletableFuture<Map<String, List<String>>> animalIdsByHabitat = query("animalIdsByHabitat", animalService::getAnimalIdsByHabitat);
+        CompletableFuture<CursorPage<Animal>> animals = query("animals", () -> animalService.getAnimalsPage(null, CursorPage.DEFAULT_LIMIT));
+        CompletableFuture<CursorPage<Caretaker>> caretakers = query("caretakers", () -> caretakerService.getCaretakersPage(null, CursorPage.DEFAULT_LIMIT));
+
+        List<String> unavailable = new ArrayList<>();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        for (Map<String, Object> part : List.of(
+                await("animalStatistics", animalStatistics, unavailable, Map.<String, Object>of()),
+                await("habitatStatistics", habitatStatistics, unavailable, Map.<String, Object>of()),
+                await("caretakerStatistics", caretakerStatistics, unavailable, Map.<String, Object>of()))) {
+            statistics.putAll(part);
+        }
+
+        CursorPage<Habitat> habitatPage = await("habitats", habitats, unavailable, null);
+        Map<String, List<String>> animalIds = await("animalIdsByHabitat", animalIdsByHabitat, unavailable, null);
+        if (habitatPage != null && animalIds != null) {
+            for (Habitat habitat : habitatPage.getItems()) {
+                habitat.setAnimalIds(animalIds.getOrDefault(habitat.getId(), List.of()));
+            }
+        }
+
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("statistics", statistics);
+        dashboard.put("habitats", habitatPage);
+        dashboard.put("animals", await("animals", animals, unavailable, null));
+        dashboard.put("caretakers", await("caretakers", caretakers, unavailable, null));
+        dashboard.put("partial", !unavailable.isEmpty());
+        dashboard.put("unavailable", unavailable);
+        return dashboard;
+    }
+
+    /**
+     * Runs one query on the pool. When its timeout fires the task is cancelled as well:
+     * a queued query is taken off the queue and a running one is interrupted, so stalled
+     * work cannot hold the pool against later dashboard calls.
+     */
+    private <T> CompletableFuture<T> query(String name, Supplier<T> query) {
+        Timer timer = meterRegistry.timer("dashboard.query", "query", name);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(timer.record(query));
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        result.orTimeout(queryTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            if (error instanceof TimeoutException) {
+                task.cancel(true);
+                executor.remove((Runnable) task);
+            }
+        });
+        return result;
+    }
+
+    private <T> T await(String name, CompletableFuture<T> future, List<String> unavailable, T fallback) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            String reason = cause instanceof TimeoutException ? "timeout"
+                    : cause instanceof RejectedExecutionException ? "rejected"
+                    : "error";
+            meterRegistry.counter("dashboard.query.unavailable", "query", name, "reason", reason).increment();
+            log.warn("Dashboard query {} unavailable ({}): {}", name, reason, cause.getMessage());
+            unavailable.add(name);
+            return fallback;
+        }
+    }
+}
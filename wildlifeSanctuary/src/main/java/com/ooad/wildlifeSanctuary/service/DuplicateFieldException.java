@@ -0,0 +1,65 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A duplicate-key error from Mongo translated back to the field whose unique index
+ * rejected the write. Relies on the unique indexes being named after their field,
+ * which is what {@code @Indexed(unique = true)} produces.
+ */
+public class DuplicateFieldException extends DuplicateKeyException {
+    private static final Pattern INDEX_NAME = Pattern.compile("index: (\\S+) dup key");
+
+    private final String field;
+    private final String message;
+
+    public DuplicateFieldException(String entityName, String field, Throwable cause) {
+        super("A " + entityName + " with this " + field + " already exists", cause);
+        this.field = field;
+        this.message = "A " + entityName + " with this " + field + " already exists";
+    }
+
+    public static DuplicateFieldException from(DuplicateKeyException e, String entityName) {
+        return new DuplicateFieldException(entityName, collidingField(e), e);
+    }
+
+    private static String collidingField(DuplicateKeyException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String field = collidingField(cause.getMessage());
+            if (field != null) {
+                return field;
+            }
+        }
+        return "key";
+    }
+
+    /**
+     * Extracts the field name from a raw E11000 server message, or null if there is none.
+     */
+    public static String collidingField(String serverMessage) {
+        if (serverMessage == null) {
+            return null;
+        }
+        Matcher matcher = INDEX_NAME.matcher(serverMessage);
+        if (!matcher.find()) {
+            return null;
+        }
+        String index = matcher.group(1);
+        // Single-field indexes may carry the default "_1" direction suffix
+        index = index.endsWith("_1") ? index.substring(0, index.length() - 2) : index;
+        return "_id".equals(index) ? "id" : index;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    // The nested driver message names the database and server, keep it out of API responses
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
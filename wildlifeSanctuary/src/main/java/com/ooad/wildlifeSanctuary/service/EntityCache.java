@@ -0,0 +1,98 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-through cache in front of the by-id lookups, one bounded Caffeine cache per entity
+ * type. Entries are evicted on every {@link EntityChangeEvent} for their id; a load that
+ * races an eviction is discarded, because Caffeine's invalidate waits for the load to finish.
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics tagged
+ * {@code cache=entities.<type>}.
+ */
+@Component
+public class EntityCache {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.cache.entities.ttl:5m}")
+    private Duration ttl;
+
+    @Value("${app.cache.entities.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.cache.entities.animal.enabled:true}")
+    private boolean animalsEnabled;
+
+    @Value("${app.cache.entities.habitat.enabled:true}")
+    private boolean habitatsEnabled;
+
+    @Value("${app.cache.entities.caretaker.enabled:true}")
+    private boolean caretakersEnabled;
+
+    private final Map<Class<?>, Cache<String, Object>> caches = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        register(Animal.class, "animal", animalsEnabled);
+        register(Habitat.class, "habitat", habitatsEnabled);
+        register(Caretaker.class, "caretaker", caretakersEnabled);
+    }
+
+    private void register(Class<?> entityType, String name, boolean enabled) {
+        if (!enabled) {
+            return;
+        }
+        Cache<String, Object> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "entities." + name);
+        caches.put(entityType, cache);
+    }
+
+    public boolean isEnabled(Class<?> entityType) {
+        return caches.containsKey(entityType);
+    }
+
+    /**
+     * @param loader fetches the entity on a miss; lookups that find nothing are not cached
+     */
+    public <T> Optional<T> get(Class<T> entityType, String id, Function<String, Optional<T>> loader) {
+        Cache<String, Object> cache = caches.get(entityType);
+        if (cache == null) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(entityType.cast(cache.get(id, key -> loader.apply(key).orElse(null))));
+    }
+
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        Cache<String, Object> cache = caches.get(event.getEntityType());
+        if (cache == null) {
+            return;
+        }
+        if (event.isWholeType()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.getIds());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published by the service layer after a write to Animal, Habitat, Caretaker or User data,
+ * so caches, versions and the {@link AuditLog} derived from that data can be brought up to
+ * date. An empty id list means any entity of the type may have changed. Remote events
+ * describe a write made on another node and are republished locally by
+ * {@link CacheInvalidationBus}.
+ */
+public class EntityChangeEvent {
+    public enum ChangeType { CREATED, UPDATED, DELETED }
+
+    private final Class<?> entityType;
+    private final Collection<String> ids;
+    private final ChangeType changeType;
+    private final boolean remote;
+
+    public EntityChangeEvent(Class<?> entityType, Collection<String> ids, ChangeType changeType) {
+        this(entityType, ids, changeType, false);
+    }
+
+    public EntityChangeEvent(Class<?> entityType, Collection<String> ids, ChangeType changeType, boolean remote) {
+        this.entityType = entityType;
+        this.ids = List.copyOf(ids);
+        this.changeType = changeType;
+        this.remote = remote;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public Collection<String> getIds() {
+        return ids;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+
+    public boolean isWholeType() {
+        return ids.isEmpty();
+    }
+}
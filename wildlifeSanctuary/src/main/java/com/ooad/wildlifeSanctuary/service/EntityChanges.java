@@ -0,0 +1,62 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.dto.BatchItemResult;
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
+import com.ooad.wildlifeSanctuary.service.EntityChangeEvent.ChangeType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Publishes {@link EntityChangeEvent}s for the service write paths.
+ */
+@Component
+public class EntityChanges {
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public void created(Class<?> entityType, String id) {
+        publish(entityType, List.of(id), ChangeType.CREATED);
+    }
+
+    public void updated(Class<?> entityType, String... ids) {
+        List<String> changed = Arrays.stream(ids).filter(Objects::nonNull).distinct().toList();
+        if (!changed.isEmpty()) {
+            publish(entityType, changed, ChangeType.UPDATED);
+        }
+    }
+
+    public void updated(Class<?> entityType, Collection<String> ids) {
+        if (!ids.isEmpty()) {
+            publish(entityType, ids, ChangeType.UPDATED);
+        }
+    }
+
+    public void deleted(Class<?> entityType, String id) {
+        publish(entityType, List.of(id), ChangeType.DELETED);
+    }
+
+    // Covers only the elements of a batch that were actually written
+    public void batch(Class<?> entityType, BatchResult result, ChangeType changeType) {
+        List<String> ids = result.getResults().stream()
+                .filter(BatchItemResult::isSuccessful)
+                .map(BatchItemResult::getId)
+                .toList();
+        if (!ids.isEmpty()) {
+            publish(entityType, ids, changeType);
+        }
+    }
+
+    public void all(Class<?> entityType) {
+        publish(entityType, List.of(), ChangeType.UPDATED);
+    }
+
+    private void publish(Class<?> entityType, Collection<String> ids, ChangeType changeType) {
+        eventPublisher.publishEvent(new EntityChangeEvent(entityType, ids, changeType));
+    }
+}
@@ -0,0 +1,34 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A change counter per entity type, bumped on every {@link EntityChangeEvent}. Anything
+ * derived only from an entity type's data is unchanged for as long as its version is.
+ */
+@Component
+public class EntityVersions {
+    // Counters start at a random per-boot value, so neither a restarted node nor another
+    // node behind the same load balancer reports a version this one has used for other data
+    private final long epoch = new SecureRandom().nextLong() >>> 1;
+    private final Map<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onEntityChange(EntityChangeEvent event) {
+        counter(event.getEntityType()).incrementAndGet();
+    }
+
+    public long current(Class<?> entityType) {
+        return counter(entityType).get();
+    }
+
+    private AtomicLong counter(Class<?> entityType) {
+        return versions.computeIfAbsent(entityType, type -> new AtomicLong(epoch));
+    }
+}
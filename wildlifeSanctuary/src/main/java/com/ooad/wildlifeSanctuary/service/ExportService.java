@@ -0,0 +1,70 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Streams whole collections as newline-delimited JSON. Documents are read from a Mongo
+ * cursor and written one at a time, so memory use does not grow with the collection.
+ */
+@Service
+public class ExportService {
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    private static final Map<String, Class<?>> EXPORTABLE_COLLECTIONS = Map.of(
+        "animals", Animal.class,
+        "habitats", Habitat.class,
+        "caretakers", Caretaker.class
+    );
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public boolean isExportable(String collection) {
+        return EXPORTABLE_COLLECTIONS.containsKey(collection);
+    }
+
+    public long exportAsNdjson(String collection, OutputStream out) throws IOException {
+        Class<?> entityType = EXPORTABLE_COLLECTIONS.get(collection);
+        if (entityType == null) {
+            throw new IllegalArgumentException("Unknown collection: " + collection);
+        }
+
+        // Flushing after every document would turn each line into its own socket write
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        Query query = new Query().cursorBatchSize(CURSOR_BATCH_SIZE);
+        long count = 0;
+
+        try (CloseableIterator<?> cursor = mongoTemplate.stream(query, entityType);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (cursor.hasNext()) {
+                writer.writeValue(generator, cursor.next());
+                generator.writeRaw('\n');
+                if (++count == 1) {
+                    // Get the first line to the client right away instead of after the first full buffer
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
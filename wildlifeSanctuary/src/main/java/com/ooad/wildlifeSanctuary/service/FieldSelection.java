@@ -0,0 +1,78 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The fields a read returns, as parsed from a {@code ?fields=} parameter by
+ * {@link FieldSelections}. The selected fields are pushed down to Mongo as an inclusion
+ * projection and each result is then shaped into its response form: the entity itself, a
+ * summary DTO, or a map holding only the requested properties.
+ */
+public final class FieldSelection<T> {
+    private static final FieldSelection<?> ALL = new FieldSelection<>(null, entity -> entity);
+
+    private final Set<String> fields;
+    private final Function<T, Object> shaper;
+
+    FieldSelection(Set<String> fields, Function<T, Object> shaper) {
+        this.fields = fields == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(fields));
+        this.shaper = shaper;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> FieldSelection<T> all() {
+        return (FieldSelection<T>) ALL;
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * The fields to load when the read itself needs more than the response shows, such as
+     * the sort key a cursor is built from. Null when everything is loaded anyway.
+     */
+    public Set<String> fieldsToLoad(String... extra) {
+        if (fields == null) {
+            return null;
+        }
+        Set<String> load = new LinkedHashSet<>(fields);
+        Collections.addAll(load, extra);
+        return load;
+    }
+
+    public Query applyTo(Query query) {
+        if (fields != null) {
+            query.fields().include(fields.toArray(String[]::new));
+        }
+        return query;
+    }
+
+    public Object shape(T entity) {
+        return shaper.apply(entity);
+    }
+
+    public List<Object> shape(List<T> entities) {
+        List<Object> shaped = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            shaped.add(shaper.apply(entity));
+        }
+        return shaped;
+    }
+
+    public CursorPage<Object> shape(CursorPage<T> page) {
+        return new CursorPage<>(shape(page.getItems()), page.getNextCursor(), page.getLimit());
+    }
+}
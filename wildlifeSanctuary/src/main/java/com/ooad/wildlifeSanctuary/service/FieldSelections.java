@@ -0,0 +1,118 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ooad.wildlifeSanctuary.dto.AnimalSummary;
+import com.ooad.wildlifeSanctuary.dto.CaretakerSummary;
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.dto.HabitatSummary;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Parses {@code ?fields=} parameters and runs the projected reads behind them. A request
+ * either names the properties it wants, comma-separated, or asks for {@code summary} to
+ * get the type's summary DTO. Only the type's own stored properties are accepted.
+ */
+@Component
+public class FieldSelections {
+    public static final String SUMMARY = "summary";
+
+    private static final TypeReference<Map<String, Object>> MAP = new TypeReference<>() {
+    };
+
+    private final Map<Class<?>, Summary<?>> summaries = Map.of(
+            Animal.class, new Summary<>(AnimalSummary.FIELDS, AnimalSummary::from),
+            Habitat.class, new Summary<>(HabitatSummary.FIELDS, HabitatSummary::from),
+            Caretaker.class, new Summary<>(CaretakerSummary.FIELDS, CaretakerSummary::from));
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public <T> FieldSelection<T> parse(Class<T> type, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return FieldSelection.all();
+        }
+        if (SUMMARY.equals(fields.strip())) {
+            @SuppressWarnings("unchecked")
+            Summary<T> summary = (Summary<T>) summaries.get(type);
+            return new FieldSelection<>(summary.fields(), summary.shaper());
+        }
+
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.strip();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (entity.getPersistentProperty(name) == null) {
+                Set<String> known = new TreeSet<>();
+                entity.doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> known.add(property.getName()));
+                throw new IllegalArgumentException("Unknown field '" + name + "', expected " + SUMMARY
+                        + " or any of " + String.join(", ", known));
+            }
+            selected.add(name);
+        }
+        return new FieldSelection<>(selected, item -> select(item, selected));
+    }
+
+    public <T> List<T> find(Class<T> type, Query query, FieldSelection<T> selection) {
+        return mongoTemplate.find(selection.applyTo(query), type);
+    }
+
+    /**
+     * Keyset-paged projected read, equivalent to the repositories' {@code findBy...IdGreaterThan}
+     * slices. {@code query} holds the filter and must not constrain {@code id} itself.
+     */
+    public <T> CursorPage<T> findPage(Class<T> type, Query query, String cursor, Integer limit, FieldSelection<T> selection) {
+        Pageable pageable = CursorPage.pageRequest(limit);
+        String afterId = CursorPage.decodeCursor(cursor);
+        if (afterId != null) {
+            query.addCriteria(where("id").gt(afterId));
+        }
+        query.with(CursorPage.withLookahead(pageable));
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+        return CursorPage.of(find(type, query, selection), pageable,
+                item -> String.valueOf(entity.getIdentifierAccessor(item).getRequiredIdentifier()));
+    }
+
+    private Map<String, Object> select(Object item, Set<String> fields) {
+        Map<String, Object> all = objectMapper.convertValue(item, MAP);
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String field : fields) {
+            selected.put(field, all.get(field));
+        }
+        return selected;
+    }
+
+    private record Summary<T>(Set<String> fields, Function<T, Object> shaper) {
+    }
+}
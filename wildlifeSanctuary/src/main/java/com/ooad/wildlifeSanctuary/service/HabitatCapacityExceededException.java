@@ -0,0 +1,17 @@
+package com.ooad.wildlifeSanctuary.service;
+
+/**
+ * Thrown when placing animals in a habitat would take it past its capacity.
+ */
+public class HabitatCapacityExceededException extends RuntimeException {
+    private final String habitatId;
+
+    public HabitatCapacityExceededException(String habitatId) {
+        super("Habitat " + habitatId + " is at capacity");
+        this.habitatId = habitatId;
+    }
+
+    public String getHabitatId() {
+        return habitatId;
+    }
+}
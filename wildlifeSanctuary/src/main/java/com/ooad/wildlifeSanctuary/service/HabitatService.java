@@ -1,49 +1,135 @@
 package com.ooad.wildlifeSanctuary.service;
 
+import com.ooad.wildlifeSanctuary.dto.BatchResult;
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
 import com.ooad.wildlifeSanctuary.model.Habitat;
 import com.ooad.wildlifeSanctuary.repository.HabitatRepository;
+import com.ooad.wildlifeSanctuary.service.EntityChangeEvent.ChangeType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Service
 public class HabitatService {
+    // Kept by the animal write paths; client writes to a habitat never overwrite it
+    private static final Set<String> SERVER_MAINTAINED = Set.of("occupancy");
+
     @Autowired
     private HabitatRepository habitatRepository;
 
+    @Autowired
+    private BatchWriter batchWriter;
+
+    @Autowired
+    private PartialUpdater partialUpdater;
+
+    @Autowired
+    private EntityChanges entityChanges;
+
+    @Autowired
+    private EntityCache entityCache;
+
     @Autowired
     private AnimalService animalService;
 
+    @Autowired
+    private FieldSelections fieldSelections;
+
     public List<Habitat> getAllHabitats() {
         return habitatRepository.findAll();
     }
 
+    public CursorPage<Habitat> getHabitatsPage(String cursor, Integer limit) {
+        return CursorPage.fetch(cursor, limit,
+                habitatRepository::findAllBy, habitatRepository::findByIdGreaterThan, Habitat::getId);
+    }
+
+    public List<?> getAllHabitats(FieldSelection<Habitat> selection) {
+        return selection.isAll()
+                ? getAllHabitats()
+                : selection.shape(fieldSelections.find(Habitat.class, new Query(), selection));
+    }
+
+    public CursorPage<?> getHabitatsPage(String cursor, Integer limit, FieldSelection<Habitat> selection) {
+        return selection.isAll()
+                ? getHabitatsPage(cursor, limit)
+                : selection.shape(fieldSelections.findPage(Habitat.class, new Query(), cursor, limit, selection));
+    }
+
     public Optional<Habitat> getHabitatById(String id) {
-        return habitatRepository.findById(id);
+        return entityCache.get(Habitat.class, id, habitatRepository::findById);
     }
 
     public Habitat createHabitat(Habitat habitat) {
-        return habitatRepository.save(habitat);
+        habitat.setOccupancy(0);
+        Habitat created = habitatRepository.insert(habitat);
+        entityChanges.created(Habitat.class, created.getId());
+        return created;
     }
 
     public Habitat updateHabitat(String id, Habitat habitat) {
         habitat.setId(id);
-        return habitatRepository.save(habitat);
+        Habitat updated = partialUpdater.replace(Habitat.class, where("id").is(id), habitat, SERVER_MAINTAINED, true)
+                .orElseThrow();
+        entityChanges.updated(Habitat.class, id);
+        return updated;
+    }
+
+    public Optional<Habitat> patchHabitat(String id, Map<String, Object> changes) {
+        Optional<Habitat> patched = partialUpdater.patch(Habitat.class, id, changes, SERVER_MAINTAINED);
+        patched.ifPresent(habitat -> entityChanges.updated(Habitat.class, id));
+        return patched;
     }
 
     public void deleteHabitat(String id) {
         habitatRepository.deleteById(id);
+        entityChanges.deleted(Habitat.class, id);
+    }
+
+    public BatchResult createHabitats(List<Habitat> habitats, boolean ordered) {
+        BatchResult result = batchWriter.insertAll(Habitat.class, "habitat", habitats, ordered, Habitat::getId, Habitat::setId);
+        entityChanges.batch(Habitat.class, result, ChangeType.CREATED);
+        return result;
+    }
+
+    public BatchResult updateHabitats(List<Habitat> habitats, boolean ordered) {
+        BatchResult result = batchWriter.replaceAll(Habitat.class, "habitat", habitats, ordered, Habitat::getId,
+                habitat -> null, habitat -> partialUpdater.toReplacement(habitat, SERVER_MAINTAINED));
+        entityChanges.batch(Habitat.class, result, ChangeType.UPDATED);
+        return result;
+    }
+
+    public void recountOccupancy() {
+        animalService.recountHabitatOccupancy();
+    }
+
+    public List<?> getHabitatsWithAnimals(FieldSelection<Habitat> selection) {
+        if (selection.isAll()) {
+            return getHabitatsWithAnimals();
+        }
+        List<Habitat> habitats = fieldSelections.find(Habitat.class, new Query(), selection);
+        // Skip the grouping aggregation entirely when the animal ids are not asked for
+        if (selection.includes("animalIds")) {
+            Map<String, List<String>> animalIdsByHabitat = animalService.getAnimalIdsByHabitat();
+            for (Habitat habitat : habitats) {
+                habitat.setAnimalIds(animalIdsByHabitat.getOrDefault(habitat.getId(), List.of()));
+            }
+        }
+        return selection.shape(habitats);
     }
 
     public List<Habitat> getHabitatsWithAnimals() {
         List<Habitat> habitats = habitatRepository.findAll();
+        Map<String, List<String>> animalIdsByHabitat = animalService.getAnimalIdsByHabitat();
         for (Habitat habitat : habitats) {
-            habitat.setAnimalIds(animalService.getAnimalsByHabitat(habitat.getId())
-                    .stream()
-                    .map(animal -> animal.getId())
-                    .toList());
+            habitat.setAnimalIds(animalIdsByHabitat.getOrDefault(habitat.getId(), List.of()));
         }
         return habitats;
     }
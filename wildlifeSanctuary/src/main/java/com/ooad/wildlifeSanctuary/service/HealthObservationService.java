@@ -0,0 +1,126 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.dto.HealthSummary;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+import com.ooad.wildlifeSanctuary.repository.HealthObservationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Records caretakers' health readings into per-animal, per-day buckets and reads them back
+ * raw or downsampled. A reading that carries a health status also becomes the animal's
+ * current {@code healthStatus}, unless a reading taken later has already set it.
+ */
+@Service
+public class HealthObservationService {
+    private static final Duration DAY = Duration.ofDays(1);
+    private static final Duration MIN_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(7);
+    // Readings stamped slightly ahead of the server clock are tolerated, anything further is rejected
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    @Autowired
+    private HealthObservationRepository observationRepository;
+
+    @Autowired
+    private AnimalService animalService;
+
+    @Value("${app.health.bucket-capacity:200}")
+    private int bucketCapacity;
+
+    @Value("${app.health.max-readings:5000}")
+    private int maxReadings;
+
+    @Value("${app.health.max-intervals:2000}")
+    private int maxIntervals;
+
+    private Clock clock = Clock.systemUTC();
+
+    public Optional<HealthReading> record(String animalId, HealthReading reading, String recordedBy) {
+        if (animalService.getAnimalById(animalId).isEmpty()) {
+            return Optional.empty();
+        }
+        Instant now = clock.instant();
+        if (reading.getAt() == null) {
+            reading.setAt(now);
+        } else if (reading.getAt().isAfter(now.plus(CLOCK_SKEW))) {
+            throw new IllegalArgumentException("Reading time must not be in the future");
+        }
+        if (reading.getWeight() != null && reading.getWeight() <= 0) {
+            throw new IllegalArgumentException("weight must be positive");
+        }
+        if (reading.getWeight() == null && reading.getTemperature() == null
+                && reading.getHealthStatus() == null && reading.getNotes() == null) {
+            throw new IllegalArgumentException("A reading needs at least one of weight, temperature, healthStatus or notes");
+        }
+        reading.setRecordedBy(recordedBy);
+
+        observationRepository.append(animalId, reading.getAt().truncatedTo(ChronoUnit.DAYS), reading, bucketCapacity);
+        if (reading.getHealthStatus() != null) {
+            animalService.applyHealthStatus(animalId, reading.getHealthStatus(), reading.getAt());
+        }
+        return Optional.of(reading);
+    }
+
+    public List<HealthReading> getReadings(String animalId, Instant from, Instant to, Integer limit) {
+        Instant end = to == null ? clock.instant() : to;
+        Instant start = from == null ? end.minus(DEFAULT_RANGE) : from;
+        requireRange(start, end);
+        int size = limit == null ? maxReadings : Math.min(limit, maxReadings);
+        if (size < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        return observationRepository.findReadings(animalId, start, end, size);
+    }
+
+    /**
+     * @param interval an ISO-8601 duration such as {@code PT1H} or {@code P1D}
+     */
+    public List<HealthSummary> summarize(String animalId, Instant from, Instant to, String interval) {
+        Instant end = to == null ? clock.instant() : to;
+        Instant start = from == null ? end.minus(DEFAULT_RANGE) : from;
+        requireRange(start, end);
+        Duration step = parseInterval(interval);
+        if (Duration.between(start, end).dividedBy(step) >= maxIntervals) {
+            throw new IllegalArgumentException("Range spans more than " + maxIntervals + " intervals, use a longer interval");
+        }
+        // Whole days over whole days can be answered from the buckets' running stats
+        boolean dayAligned = step.toMillis() % DAY.toMillis() == 0
+                && start.equals(start.truncatedTo(ChronoUnit.DAYS))
+                && end.equals(end.truncatedTo(ChronoUnit.DAYS));
+        return dayAligned
+                ? observationRepository.summarizeDays(animalId, start, end, step)
+                : observationRepository.summarize(animalId, start, end, step);
+    }
+
+    private static void requireRange(Instant from, Instant to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+
+    private static Duration parseInterval(String interval) {
+        if (interval == null || interval.isBlank()) {
+            return Duration.ofHours(1);
+        }
+        Duration step;
+        try {
+            step = Duration.parse(interval);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("interval must be an ISO-8601 duration such as PT1H or P1D");
+        }
+        if (step.compareTo(MIN_INTERVAL) < 0) {
+            throw new IllegalArgumentException("interval must be at least " + MIN_INTERVAL);
+        }
+        return step;
+    }
+}
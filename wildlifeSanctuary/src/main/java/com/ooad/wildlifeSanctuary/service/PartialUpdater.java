@@ -0,0 +1,133 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Applies a JSON merge-style patch as one targeted update: supplied fields are
+ * {@code $set}, fields supplied as null are {@code $unset}, and everything else in the
+ * stored document is left alone.
+ */
+@Component
+public class PartialUpdater {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoMappingContext mappingContext;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * @param protectedFields fields that may not be patched in addition to the id
+     * @return the updated entity, or empty if no entity has this id
+     */
+    public <T> Optional<T> patch(Class<T> entityType, String id, Map<String, Object> changes, Set<String> protectedFields) {
+        return patch(entityType, where("id").is(id), changes, protectedFields);
+    }
+
+    /**
+     * Patches the single entity matching the criteria, which lets callers make the write
+     * conditional on the stored state, e.g. on a field still holding the value they read.
+     *
+     * @return the updated entity, or empty if nothing matched
+     */
+    public <T> Optional<T> patch(Class<T> entityType, Criteria criteria, Map<String, Object> changes, Set<String> protectedFields) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(new Query(criteria),
+                toUpdate(entityType, changes, protectedFields),
+                FindAndModifyOptions.options().returnNew(true), entityType));
+    }
+
+    /**
+     * Replaces every field of the matching entity except the preserved ones, which keep
+     * their stored values. Used where a full PUT must not clobber server-maintained fields.
+     *
+     * @param upsert whether to insert the entity when nothing matches
+     * @return the replaced entity, or empty if nothing matched and upsert is off
+     */
+    public <T> Optional<T> replace(Class<T> entityType, Criteria criteria, T entity, Set<String> preservedFields, boolean upsert) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(new Query(criteria),
+                toReplacement(entity, preservedFields),
+                FindAndModifyOptions.options().returnNew(true).upsert(upsert), entityType));
+    }
+
+    /**
+     * Builds an update equivalent to replacing the stored document with the entity, minus
+     * the id and the preserved fields: written properties are {@code $set} and properties
+     * the entity leaves empty are {@code $unset}.
+     */
+    public Update toReplacement(Object entity, Set<String> preservedFields) {
+        MongoPersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entity.getClass());
+        Document document = new Document();
+        mongoTemplate.getConverter().write(entity, document);
+        Update update = new Update();
+        for (MongoPersistentProperty property : persistentEntity) {
+            if (property.isIdProperty() || preservedFields.contains(property.getName())) {
+                continue;
+            }
+            Object value = document.get(property.getFieldName());
+            if (value == null) {
+                update.unset(property.getFieldName());
+            } else {
+                update.set(property.getFieldName(), value);
+            }
+        }
+        return update;
+    }
+
+    public Update toUpdate(Class<?> entityType, Map<String, Object> changes, Set<String> protectedFields) {
+        if (changes == null || changes.isEmpty()) {
+            throw new IllegalArgumentException("No fields to update");
+        }
+        MongoPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityType);
+        Update update = new Update();
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            String field = change.getKey();
+            MongoPersistentProperty property = entity.getPersistentProperty(field);
+            if (property == null) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+            if (property.isIdProperty() || protectedFields.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be updated: " + field);
+            }
+            if (change.getValue() == null) {
+                if (property.getType().isPrimitive()) {
+                    throw new IllegalArgumentException("Field cannot be removed: " + field);
+                }
+                update.unset(field);
+            } else {
+                update.set(field, convert(change.getValue(), property, field));
+            }
+        }
+        return update;
+    }
+
+    private Object convert(Object value, MongoPersistentProperty property, String field) {
+        JavaType targetType = objectMapper.constructType(property.getField() != null
+                ? property.getField().getGenericType()
+                : property.getType());
+        try {
+            return objectMapper.convertValue(value, targetType);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for field: " + field);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import com.ooad.wildlifeSanctuary.repository.ReactiveAnimalRepository;
+import com.ooad.wildlifeSanctuary.repository.ReactiveCaretakerRepository;
+import com.ooad.wildlifeSanctuary.repository.ReactiveHabitatRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The read side of AnimalService, HabitatService and CaretakerService on the reactive
+ * driver, for the reactive serving mode. Results stream from Mongo as they arrive instead
+ * of being collected on a request thread.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReadService {
+    @Autowired
+    private ReactiveAnimalRepository animalRepository;
+
+    @Autowired
+    private ReactiveHabitatRepository habitatRepository;
+
+    @Autowired
+    private ReactiveCaretakerRepository caretakerRepository;
+
+    public Flux<Animal> getAllAnimals() {
+        return animalRepository.findAll();
+    }
+
+    public Mono<CursorPage<Animal>> getAnimalsPage(String cursor, Integer limit) {
+        return page(cursor, limit, animalRepository::findAllBy, animalRepository::findByIdGreaterThan, Animal::getId);
+    }
+
+    public Mono<Animal> getAnimalById(String id) {
+        return animalRepository.findById(id);
+    }
+
+    public Flux<Animal> getAnimalsByHabitat(String habitatId) {
+        return animalRepository.findByHabitatId(habitatId);
+    }
+
+    public Mono<CursorPage<Animal>> getAnimalsByHabitatPage(String habitatId, String cursor, Integer limit) {
+        return page(cursor, limit,
+                pageable -> animalRepository.findByHabitatId(habitatId, pageable),
+                (afterId, pageable) -> animalRepository.findByHabitatIdAndIdGreaterThan(habitatId, afterId, pageable),
+                Animal::getId);
+    }
+
+    public Flux<Animal> getAnimalsByCaretaker(String caretakerId) {
+        return animalRepository.findByCaretakerId(caretakerId);
+    }
+
+    public Mono<CursorPage<Animal>> getAnimalsByCaretakerPage(String caretakerId, String cursor, Integer limit) {
+        return page(cursor, limit,
+                pageable -> animalRepository.findByCaretakerId(caretakerId, pageable),
+                (afterId, pageable) -> animalRepository.findByCaretakerIdAndIdGreaterThan(caretakerId, afterId, pageable),
+                Animal::getId);
+    }
+
+    public Flux<Habitat> getAllHabitats() {
+        return habitatRepository.findAll();
+    }
+
+    public Mono<CursorPage<Habitat>> getHabitatsPage(String cursor, Integer limit) {
+        return page(cursor, limit, habitatRepository::findAllBy, habitatRepository::findByIdGreaterThan, Habitat::getId);
+    }
+
+    public Mono<Habitat> getHabitatById(String id) {
+        return habitatRepository.findById(id);
+    }
+
+    // The habitats and the grouped animal ids are fetched concurrently
+    public Flux<Habitat> getHabitatsWithAnimals() {
+        return Mono.zip(habitatRepository.findAll().collectList(), animalRepository.findAnimalIdsGroupedByHabitat())
+                .flatMapIterable(result -> {
+                    for (Habitat habitat : result.getT1()) {
+                        habitat.setAnimalIds(result.getT2().getOrDefault(habitat.getId(), List.of()));
+                    }
+                    return result.getT1();
+                });
+    }
+
+    public Flux<Caretaker> getAllCaretakers() {
+        return caretakerRepository.findAll();
+    }
+
+    public Mono<CursorPage<Caretaker>> getCaretakersPage(String cursor, Integer limit) {
+        return page(cursor, limit, caretakerRepository::findAllBy, caretakerRepository::findByIdGreaterThan, Caretaker::getId);
+    }
+
+    public Mono<Caretaker> getCaretakerById(String id) {
+        return caretakerRepository.findById(id);
+    }
+
+    public Mono<Caretaker> getCaretakerByUserId(String userId) {
+        return caretakerRepository.findByUserId(userId);
+    }
+
+    private static <T> Mono<CursorPage<T>> page(String cursor, Integer limit,
+                                               Function<Pageable, Flux<T>> first,
+                                               BiFunction<String, Pageable, Flux<T>> after,
+                                               Function<T, String> idExtractor) {
+        Pageable pageable = CursorPage.pageRequest(limit);
+        String afterId = CursorPage.decodeCursor(cursor);
+        Pageable lookahead = CursorPage.withLookahead(pageable);
+        Flux<T> items = afterId == null ? first.apply(lookahead) : after.apply(afterId, lookahead);
+        return items.collectList().map(fetched -> CursorPage.of(fetched, pageable, idExtractor));
+    }
+}
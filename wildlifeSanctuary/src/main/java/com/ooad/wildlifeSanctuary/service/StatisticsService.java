@@ -0,0 +1,118 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+/**
+ * Dashboard statistics computed inside Mongo. Each collection is visited by a single
+ * aggregation and only the grouped counts come back over the wire.
+ */
+@Service
+public class StatisticsService {
+    private static final String UNASSIGNED = "unassigned";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    // Sent as maxTimeMS so the server abandons an aggregation the dashboard has given up on
+    @Value("${app.statistics.max-time:${app.dashboard.query-timeout:2s}}")
+    private Duration maxTime;
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.putAll(getAnimalStatistics());
+        statistics.putAll(getHabitatStatistics());
+        statistics.putAll(getCaretakerStatistics());
+        return statistics;
+    }
+
+    // The three aggregations below are independent, so DashboardService runs them concurrently
+
+    public Map<String, Object> getAnimalStatistics() {
+        Document animals = mongoTemplate.aggregate(newAggregation(
+                facet(count().as("count")).as("total")
+                        .and(countBy("species")).as("bySpecies")
+                        .and(countBy("healthStatus")).as("byHealthStatus")
+                        .and(countBy("habitatId")).as("byHabitat")
+        ).withOptions(timeLimited()), Animal.class, Document.class).getUniqueMappedResult();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("totalAnimals", facetTotal(animals));
+        statistics.put("animalsBySpecies", countMap(animals, "bySpecies"));
+        statistics.put("animalsByHealthStatus", countMap(animals, "byHealthStatus"));
+        statistics.put("animalsByHabitat", countMap(animals, "byHabitat"));
+        return statistics;
+    }
+
+    public Map<String, Object> getHabitatStatistics() {
+        Document habitats = mongoTemplate.aggregate(newAggregation(
+                group().count().as("count").sum("area").as("totalArea")
+        ).withOptions(timeLimited()), Habitat.class, Document.class).getUniqueMappedResult();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("totalHabitats", habitats == null ? 0 : habitats.getInteger("count", 0));
+        statistics.put("totalHabitatArea", habitats == null ? 0.0 : ((Number) habitats.get("totalArea")).doubleValue());
+        return statistics;
+    }
+
+    public Map<String, Object> getCaretakerStatistics() {
+        Document caretakers = mongoTemplate.aggregate(newAggregation(
+                facet(count().as("count")).as("total")
+                        .and(countBy("specialization")).as("bySpecialization")
+        ).withOptions(timeLimited()), Caretaker.class, Document.class).getUniqueMappedResult();
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("totalCaretakers", facetTotal(caretakers));
+        statistics.put("caretakersBySpecialization", countMap(caretakers, "bySpecialization"));
+        return statistics;
+    }
+
+    private AggregationOptions timeLimited() {
+        return AggregationOptions.builder().maxTime(maxTime).build();
+    }
+
+    private static AggregationOperation[] countBy(String field) {
+        return new AggregationOperation[] {
+            group(field).count().as("count"),
+            sort(Sort.Direction.DESC, "count")
+        };
+    }
+
+    private static int facetTotal(Document facets) {
+        if (facets == null) {
+            return 0;
+        }
+        List<Document> total = facets.getList("total", Document.class, Collections.emptyList());
+        return total.isEmpty() ? 0 : total.get(0).getInteger("count", 0);
+    }
+
+    private static Map<String, Integer> countMap(Document facets, String facet) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        if (facets == null) {
+            return counts;
+        }
+        for (Document bucket : facets.getList(facet, Document.class, Collections.emptyList())) {
+            Object key = bucket.get("_id");
+            counts.merge(key == null ? UNASSIGNED : key.toString(), bucket.getInteger("count", 0), Integer::sum);
+        }
+        return counts;
+    }
+}
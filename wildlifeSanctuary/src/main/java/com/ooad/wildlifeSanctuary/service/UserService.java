@@ -2,6 +2,7 @@ package com.ooad.wildlifeSanctuary.service;
 
 import com.ooad.wildlifeSanctuary.model.User;
 import com.ooad.wildlifeSanctuary.repository.UserRepository;
+import com.ooad.wildlifeSanctuary.security.UserDetailsCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -20,6 +21,12 @@ public class UserService implements UserDetailsService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private EntityChanges entityChanges;
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
@@ -27,18 +34,44 @@ public class UserService implements UserDetailsService {
     }
 
     public User createUser(User user) {
-        // Check if user with same email already exists
-        if (userRepository.findByEmail(user.getEmail()).isPresent()) {
-            throw new DuplicateKeyException("A user with this email already exists");
-        }
-        
-        // Check if user with same username already exists
+        // Indexed lookups that spare the password hash for an obvious duplicate; concurrent
+        // registrations are still settled by the unique indexes below
         if (userRepository.findByUsername(user.getUsername()).isPresent()) {
-            throw new DuplicateKeyException("A user with this username already exists");
+            throw new DuplicateFieldException("user", "username", null);
+        }
+        if (user.getEmail() != null && userRepository.findByEmail(user.getEmail()).isPresent()) {
+            throw new DuplicateFieldException("user", "email", null);
         }
-        
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        // One insert; the unique indexes on username and email reject duplicates atomically
+        User savedUser;
+        try {
+            savedUser = userRepository.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw DuplicateFieldException.from(e, "user");
+        }
+        userDetailsCache.invalidate(savedUser.getUsername());
+        entityChanges.created(User.class, savedUser.getId());
+        return savedUser;
+    }
+
+    public Optional<User> setUserEnabled(String username, boolean enabled) {
+        Optional<User> user = userRepository.findByUsername(username);
+        user.ifPresent(existing -> {
+            existing.setEnabled(enabled);
+            userRepository.save(existing);
+            userDetailsCache.invalidate(username);
+            entityChanges.updated(User.class, existing.getId());
+        });
+        return user;
+    }
+
+    /**
+     * Looks up a user for token authentication, going through the short-TTL cache so
+     * repeat requests from the same user skip the database.
+     */
+    public Optional<User> getUserForAuthentication(String username) {
+        return userDetailsCache.get(username, userRepository::findByUsername);
     }
 
     public Optional<User> getUserByUsername(String username) {
@@ -0,0 +1,65 @@
+package com.ooad.wildlifeSanctuary;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.event.CommandListener;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Connects integration tests to a throwaway database on a local mongod, or skips the
+ * test when no server is reachable. Set {@code test.mongodb.uri} to point elsewhere.
+ */
+public final class MongoTestSupport {
+	private static final String DEFAULT_URI = "mongodb://localhost:27017";
+
+	private MongoTestSupport() {
+	}
+
+	public static MongoClient connectOrSkip() {
+		return connectOrSkip(List.of());
+	}
+
+	// For tests that count the commands sent to the server
+	public static MongoClient connectOrSkip(List<CommandListener> commandListeners) {
+		MongoClientSettings settings = MongoClientSettings.builder()
+				.applyConnectionString(new ConnectionString(System.getProperty("test.mongodb.uri", DEFAULT_URI)))
+				.applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(2, TimeUnit.SECONDS))
+				.commandListenerList(commandListeners)
+				.build();
+		MongoClient client = MongoClients.create(settings);
+		try {
+			client.getDatabase("admin").runCommand(new Document("ping", 1));
+		} catch (RuntimeException e) {
+			client.close();
+			assumeTrue(false, "No MongoDB server reachable: " + e.getMessage());
+		}
+		return client;
+	}
+
+	public static MongoTemplate scratchTemplate(MongoClient client) {
+		return new MongoTemplate(client, "wildlifeSanctuaryTest_" + UUID.randomUUID().toString().replace("-", ""));
+	}
+
+	/**
+	 * A Spring Data repository backed by the given template, with its custom fragment
+	 * wired to the same template.
+	 */
+	public static <T> T repository(MongoTemplate mongoTemplate, Class<T> repositoryType, Object customImplementation) {
+		ReflectionTestUtils.setField(customImplementation, "mongoTemplate", mongoTemplate);
+		return new MongoRepositoryFactory(mongoTemplate)
+				.getRepository(repositoryType, RepositoryComposition.RepositoryFragments.just(customImplementation));
+	}
+
+}
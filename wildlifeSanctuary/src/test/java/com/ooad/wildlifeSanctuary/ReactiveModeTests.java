@@ -0,0 +1,45 @@
+package com.ooad.wildlifeSanctuary;
+
+import com.ooad.wildlifeSanctuary.controller.AnimalController;
+import com.ooad.wildlifeSanctuary.controller.ReactiveAnimalController;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactiveModeTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void servesReadEndpointsFromReactiveControllers() {
+		assertThat(context.getBeanNamesForType(ReactiveAnimalController.class)).hasSize(1);
+		assertThat(context.getBeanNamesForType(AnimalController.class)).isEmpty();
+	}
+
+	@Test
+	void caretakerReadsStillRequireAToken() {
+		webTestClient.get().uri("/api/caretakers/123")
+				.exchange()
+				.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void invalidTokenIsTreatedAsAnonymous() {
+		webTestClient.get().uri("/api/caretakers/123")
+				.header("Authorization", "Bearer not-a-jwt")
+				.exchange()
+				.expectStatus().isUnauthorized();
+	}
+
+}
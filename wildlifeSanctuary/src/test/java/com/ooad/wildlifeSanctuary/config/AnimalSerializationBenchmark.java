@@ -0,0 +1,94 @@
+package com.ooad.wildlifeSanctuary.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of an animal list in each negotiable format, using mappers built
+ * the way {@link BinaryFormatsConfig} builds them. Payload sizes are printed during setup.
+ * Not run by the test suite; start {@link #main} after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimalSerializationBenchmark {
+	private static final TypeReference<List<Animal>> ANIMALS = new TypeReference<>() {
+	};
+	private static final String[] SPECIES = {"Snow Leopard", "African Elephant", "Red Panda", "Bengal Tiger", "Grey Wolf"};
+	private static final String[] HEALTH = {"Healthy", "Sick", "Recovering", "Under Observation"};
+
+	@Param({"json", "cbor", "smile"})
+	private String format;
+
+	@Param({"1000"})
+	private int animals;
+
+	private ObjectMapper mapper;
+	private List<Animal> list;
+	private byte[] encoded;
+
+	@Setup
+	public void setUp() throws IOException {
+		mapper = switch (format) {
+			case "cbor" -> BinaryFormatsConfig.cborMapper(Jackson2ObjectMapperBuilder.json());
+			case "smile" -> BinaryFormatsConfig.smileMapper(Jackson2ObjectMapperBuilder.json());
+			default -> Jackson2ObjectMapperBuilder.json().build();
+		};
+		Random random = new Random(42);
+		list = new ArrayList<>(animals);
+		for (int i = 0; i < animals; i++) {
+			Animal animal = new Animal();
+			animal.setId(String.format("%024x", i));
+			animal.setName("Animal " + i);
+			animal.setSpecies(SPECIES[random.nextInt(SPECIES.length)]);
+			animal.setHealthStatus(HEALTH[random.nextInt(HEALTH.length)]);
+			animal.setHabitatId(String.format("%024x", random.nextInt(50)));
+			animal.setCaretakerId(String.format("%024x", random.nextInt(20)));
+			animal.setDateOfBirth(LocalDate.of(2010 + random.nextInt(14), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+			animal.setDescription("Arrived from a partner sanctuary, enclosure " + random.nextInt(100) + ", feeds twice daily.");
+			list.add(animal);
+		}
+		encoded = mapper.writeValueAsBytes(list);
+		System.out.printf("%n%s payload for %d animals: %d bytes%n", format, animals, encoded.length);
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		return mapper.writeValueAsBytes(list);
+	}
+
+	@Benchmark
+	public List<Animal> deserialize() throws IOException {
+		return mapper.readValue(encoded, ANIMALS);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AnimalSerializationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,45 @@
+package com.ooad.wildlifeSanctuary.config;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MongoIndexInitializerTest {
+
+	@Test
+	void failingToCreateAUniqueIndexStopsStartup() {
+		MongoTemplate unreachable = mock(MongoTemplate.class);
+		IndexOperations indexOps = mock(IndexOperations.class);
+		when(unreachable.indexOps(any(Class.class))).thenReturn(indexOps);
+		when(indexOps.ensureIndex(any())).thenThrow(new DataAccessResourceFailureException("Timed out"));
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+		mappingContext.setInitialEntitySet(Set.of(Animal.class, User.class));
+		mappingContext.initialize();
+		MongoIndexInitializer unstartable = new MongoIndexInitializer();
+		ReflectionTestUtils.setField(unstartable, "mongoTemplate", unreachable);
+		ReflectionTestUtils.setField(unstartable, "mappingContext", mappingContext);
+		ReflectionTestUtils.setField(unstartable, "ensureIndexes", true);
+
+		assertThatThrownBy(unstartable::afterSingletonsInstantiated)
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("users.username")
+				.hasMessageContaining("users.email")
+				.hasMessageNotContaining("animals");
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.ooad.wildlifeSanctuary.model.User;
+import com.ooad.wildlifeSanctuary.security.JwtUtils;
+import com.ooad.wildlifeSanctuary.security.PasswordHashingExecutor;
+import com.ooad.wildlifeSanctuary.service.DuplicateFieldException;
+import com.ooad.wildlifeSanctuary.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerTest {
+	private static final String CREDENTIALS = "{\"username\":\"keeper\",\"password\":\"secret\"}";
+
+	private final AuthenticationManager authenticationManager = mock(AuthenticationManager.class);
+	private final JwtUtils jwtUtils = mock(JwtUtils.class);
+	private final UserService userService = mock(UserService.class);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private PasswordHashingExecutor passwordHashingExecutor;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		passwordHashingExecutor = new PasswordHashingExecutor();
+		ReflectionTestUtils.setField(passwordHashingExecutor, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(passwordHashingExecutor, "poolSize", 1);
+		ReflectionTestUtils.setField(passwordHashingExecutor, "queueCapacity", 1);
+		ReflectionTestUtils.setField(passwordHashingExecutor, "retryAfterSeconds", 3L);
+		ReflectionTestUtils.invokeMethod(passwordHashingExecutor, "start");
+
+		AuthController controller = new AuthController();
+		ReflectionTestUtils.setField(controller, "authenticationManager", authenticationManager);
+		ReflectionTestUtils.setField(controller, "userService", userService);
+		ReflectionTestUtils.setField(controller, "jwtUtils", jwtUtils);
+		ReflectionTestUtils.setField(controller, "passwordHashingExecutor", passwordHashingExecutor);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller)
+				.setControllerAdvice(new ApiExceptionHandler())
+				.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		ReflectionTestUtils.invokeMethod(passwordHashingExecutor, "stop");
+	}
+
+	@Test
+	void loginReturnsTheTokenFromTheHashingPool() throws Exception {
+		User user = new User();
+		user.setUsername("keeper");
+		when(authenticationManager.authenticate(any()))
+				.thenReturn(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+		when(jwtUtils.generateToken(user)).thenReturn("signed-token");
+
+		MvcResult started = login().andExpect(request().asyncStarted()).andReturn();
+
+		mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.token").value("signed-token"))
+				.andExpect(jsonPath("$.username").value("keeper"));
+	}
+
+	@Test
+	void badCredentialsAreUnauthorizedAfterTheAsyncDispatch() throws Exception {
+		when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+		MvcResult started = login().andExpect(request().asyncStarted()).andReturn();
+
+		mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	void takenUsernameIsABadRequestAfterTheAsyncDispatch() throws Exception {
+		when(userService.createUser(any())).thenThrow(new DuplicateFieldException("user", "username", null));
+
+		MvcResult started = mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON).content(CREDENTIALS))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void fullHashingQueueShedsWithRetryAfter() throws Exception {
+		// Occupy the only hashing thread and the only queue slot
+		passwordHashingExecutor.submit(() -> {
+			awaitRelease();
+			return null;
+		});
+		passwordHashingExecutor.submit(() -> null);
+
+		MvcResult shed = login()
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+				.andReturn();
+
+		assertThat(shed.getRequest().isAsyncStarted()).isFalse();
+	}
+
+	private ResultActions login() throws Exception {
+		return mockMvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(CREDENTIALS));
+	}
+
+	private void awaitRelease() {
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
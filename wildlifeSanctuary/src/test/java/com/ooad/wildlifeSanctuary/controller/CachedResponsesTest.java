@@ -0,0 +1,119 @@
+package com.ooad.wildlifeSanctuary.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.service.EntityChangeEvent;
+import com.ooad.wildlifeSanctuary.service.EntityVersions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedResponsesTest {
+
+	private EntityVersions entityVersions;
+	private CachedResponses cachedResponses;
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Supplier<List<String>> loader = () -> {
+		loads.incrementAndGet();
+		return List.of("Leo", "Nala");
+	};
+
+	@BeforeEach
+	void setUp() {
+		entityVersions = new EntityVersions();
+		cachedResponses = new CachedResponses();
+		ReflectionTestUtils.setField(cachedResponses, "entityVersions", entityVersions);
+		ReflectionTestUtils.setField(cachedResponses, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(cachedResponses, "maxBytes", 1024L);
+		ReflectionTestUtils.setField(cachedResponses, "jacksonConverters",
+				List.of(new MappingJackson2CborHttpMessageConverter(new ObjectMapper(new CBORFactory()))));
+		cachedResponses.init();
+	}
+
+	@Test
+	void servesRepeatPollsFromCachedBytes() {
+		ResponseEntity<byte[]> first = cachedResponses.respond(get(null), List.of(Animal.class), loader);
+		ResponseEntity<byte[]> second = cachedResponses.respond(get(null), List.of(Animal.class), loader);
+
+		assertThat(loads).hasValue(1);
+		assertThat(second.getBody()).isSameAs(first.getBody());
+		assertThat(new String(first.getBody())).isEqualTo("[\"Leo\",\"Nala\"]");
+		assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+	}
+
+	@Test
+	void answersCurrentEtagWithNotModifiedWithoutLoading() {
+		String etag = cachedResponses.respond(get(null), List.of(Animal.class), loader).getHeaders().getETag();
+		ServletWebRequest conditional = get(etag);
+
+		ResponseEntity<byte[]> response = cachedResponses.respond(conditional, List.of(Animal.class), loader);
+
+		assertThat(response).isNull();
+		assertThat(conditional.getResponse().getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void reloadsAfterAChangeToADependency() {
+		String etag = cachedResponses.respond(get(null), List.of(Animal.class), loader).getHeaders().getETag();
+
+		entityVersions.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a1"), EntityChangeEvent.ChangeType.UPDATED));
+		ResponseEntity<byte[]> response = cachedResponses.respond(get(etag), List.of(Animal.class), loader);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getHeaders().getETag()).isNotEqualTo(etag);
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void negotiatesCborAsASeparateRepresentation() throws Exception {
+		ResponseEntity<byte[]> json = cachedResponses.respond(get(null), List.of(Animal.class), loader);
+		ResponseEntity<byte[]> cbor = cachedResponses.respond(get(null, "application/cbor, application/json;q=0.5"),
+				List.of(Animal.class), loader);
+
+		assertThat(cbor.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+		assertThat(cbor.getHeaders().getETag()).isNotEqualTo(json.getHeaders().getETag());
+		assertThat(cbor.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+		assertThat(new ObjectMapper(new CBORFactory()).readValue(cbor.getBody(), List.class)).containsExactly("Leo", "Nala");
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void rejectsUnsupportedFormats() {
+		ResponseEntity<byte[]> response = cachedResponses.respond(get(null, "text/csv"), List.of(Animal.class), loader);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+		assertThat(loads).hasValue(0);
+	}
+
+	private static ServletWebRequest get(String ifNoneMatch) {
+		return get(ifNoneMatch, null);
+	}
+
+	private static ServletWebRequest get(String ifNoneMatch, String accept) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/animals");
+		if (ifNoneMatch != null) {
+			request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		if (accept != null) {
+			request.addHeader(HttpHeaders.ACCEPT, accept);
+		}
+		return new ServletWebRequest(request, new MockHttpServletResponse());
+	}
+
+}
@@ -0,0 +1,45 @@
+package com.ooad.wildlifeSanctuary.dto;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageTest {
+
+	private final List<String> ids = List.of("a", "b", "c", "d", "e");
+	private final List<String> afterIds = new ArrayList<>();
+
+	@Test
+	void followsTheCursorToTheEndOfTheListing() {
+		CursorPage<String> first = CursorPage.fetch(null, 2, this::firstPage, this::pageAfter, Function.identity());
+		CursorPage<String> second = CursorPage.fetch(first.getNextCursor(), 2, this::firstPage, this::pageAfter, Function.identity());
+		CursorPage<String> last = CursorPage.fetch(second.getNextCursor(), 2, this::firstPage, this::pageAfter, Function.identity());
+
+		assertThat(first.getItems()).containsExactly("a", "b");
+		assertThat(second.getItems()).containsExactly("c", "d");
+		assertThat(last.getItems()).containsExactly("e");
+		assertThat(last.getNextCursor()).isNull();
+		assertThat(afterIds).containsExactly("b", "d");
+	}
+
+	private Slice<String> firstPage(Pageable pageable) {
+		return slice(ids, pageable);
+	}
+
+	private Slice<String> pageAfter(String id, Pageable pageable) {
+		afterIds.add(id);
+		return slice(ids.stream().filter(candidate -> candidate.compareTo(id) > 0).toList(), pageable);
+	}
+
+	private static Slice<String> slice(List<String> remaining, Pageable pageable) {
+		boolean hasNext = remaining.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? remaining.subList(0, pageable.getPageSize()) : remaining, pageable, hasNext);
+	}
+}
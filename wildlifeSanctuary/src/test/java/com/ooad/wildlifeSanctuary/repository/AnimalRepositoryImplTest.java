@@ -0,0 +1,187 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.mongodb.client.MongoClient;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.dto.AnimalSearchHit;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+class AnimalRepositoryImplTest {
+
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+	private AnimalRepositoryImpl repository;
+
+	@BeforeEach
+	void setUp() {
+		client = MongoTestSupport.connectOrSkip();
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+		MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+		IndexResolver.create(mappingContext)
+				.resolveIndexFor(Animal.class)
+				.forEach(mongoTemplate.indexOps(Animal.class)::ensureIndex);
+		repository = new AnimalRepositoryImpl();
+		ReflectionTestUtils.setField(repository, "mongoTemplate", mongoTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@Test
+	void textSearchRanksNameMatchesAboveDescriptionMatches() {
+		insertAnimal("Stripes", "Tiger", "Shares an enclosure with the zebra herd");
+		insertAnimal("Zebra", "Plains zebra", "Born in the sanctuary");
+		insertAnimal("Nala", "Lion", "Prefers the shade");
+
+		List<AnimalSearchHit> hits = repository.searchByText("zebra", 0, 10);
+
+		assertThat(hits).extracting(hit -> hit.getAnimal().getName()).containsExactly("Zebra", "Stripes");
+		assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+	}
+
+	@Test
+	void textSearchPagesThroughRankedResults() {
+		for (int i = 0; i < 5; i++) {
+			insertAnimal("Otter " + i, "Otter", null);
+		}
+
+		List<AnimalSearchHit> firstPage = repository.searchByText("otter", 0, 3);
+		List<AnimalSearchHit> secondPage = repository.searchByText("otter", 3, 3);
+
+		assertThat(firstPage).hasSize(3);
+		assertThat(secondPage).hasSize(2);
+		List<String> ids = new ArrayList<>();
+		firstPage.forEach(hit -> ids.add(hit.getAnimal().getId()));
+		secondPage.forEach(hit -> ids.add(hit.getAnimal().getId()));
+		// Every otter scores the same, so the id tiebreak alone decides the order
+		assertThat(ids).doesNotHaveDuplicates().isSorted();
+	}
+
+	@Test
+	void filterCombinesEveryGivenCondition() {
+		insertAnimal("Kaa", "Python", "Sick", "h1", LocalDate.of(2021, 3, 1));
+		insertAnimal("Rango", "Iguana", "Sick", "h1", LocalDate.of(2019, 6, 1));
+		insertAnimal("Nagini", "Python", "Healthy", "h1", LocalDate.of(2022, 1, 1));
+		insertAnimal("Sir Hiss", "Python", "Sick", "h2", LocalDate.of(2023, 1, 1));
+
+		AnimalFilter filter = new AnimalFilter(List.of("Python", "Iguana"), List.of("Sick"), "h1", null,
+				LocalDate.of(2020, 1, 1), null);
+		Slice<Animal> slice = repository.findByFilter(filter, AnimalSort.NAME, null, 10, null);
+
+		assertThat(slice.getContent()).extracting(Animal::getName).containsExactly("Kaa");
+		assertThat(slice.hasNext()).isFalse();
+	}
+
+	@Test
+	void keysetPagesVisitEveryAnimalOnceInEitherDirection() {
+		for (String name : new String[] {"Bo", "Ada", null, "Bo", "Cy", null, "Ada"}) {
+			insertAnimal(name, "Otter", "Healthy", "h1", null);
+		}
+		AnimalFilter filter = new AnimalFilter(null, null, null, null, null, null);
+
+		for (AnimalSort sort : List.of(AnimalSort.NAME, AnimalSort.NAME_DESC, AnimalSort.DATE_OF_BIRTH_DESC)) {
+			List<String> visited = new ArrayList<>();
+			String after = null;
+			Slice<Animal> slice;
+			do {
+				slice = repository.findByFilter(filter, sort, after, 2, null);
+				slice.getContent().forEach(animal -> visited.add(animal.getId()));
+				after = slice.getContent().isEmpty() ? null : sort.keyOf(slice.getContent().get(slice.getContent().size() - 1));
+			} while (slice.hasNext());
+
+			assertThat(visited).as(sort.name()).hasSize(7).doesNotHaveDuplicates();
+		}
+	}
+
+	@Test
+	void reassignmentOnlyReportsAnimalsItActuallyMoved() {
+		Habitat from = insertHabitat(null);
+		Habitat to = insertHabitat(null);
+		Habitat elsewhere = insertHabitat(null);
+		List<String> animalIds = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			animalIds.add(insertAnimal("Otter " + i, "Otter", "Healthy", from.getId(), null).getId());
+		}
+		mongoTemplate.updateFirst(new Query(where("id").is(from.getId())),
+				new Update().addToSet("animalIds").each(animalIds.toArray()), Habitat.class);
+		List<String> candidates = repository.findIdsByHabitatId(from.getId(), null);
+		// Another request moves one candidate between the lookup and the bulk update
+		String movedAway = candidates.get(1);
+		mongoTemplate.updateFirst(new Query(where("id").is(movedAway)), new Update().set("habitatId", elsewhere.getId()), Animal.class);
+
+		Reassignment reassignment = repository.updateHabitatId(candidates, from.getId(), to.getId());
+		HabitatRepositoryImpl habitats = new HabitatRepositoryImpl();
+		ReflectionTestUtils.setField(habitats, "mongoTemplate", mongoTemplate);
+		habitats.transferAnimalIds(from.getId(), to.getId(), reassignment.movedIds());
+
+		assertThat(reassignment.modifiedCount()).isEqualTo(2);
+		assertThat(reassignment.movedIds()).containsExactlyInAnyOrder(animalIds.get(0), animalIds.get(2));
+		assertThat(mongoTemplate.findById(to.getId(), Habitat.class).getAnimalIds())
+				.containsExactlyInAnyOrder(animalIds.get(0), animalIds.get(2));
+		assertThat(mongoTemplate.findById(from.getId(), Habitat.class).getAnimalIds()).containsExactly(movedAway);
+		assertThat(repository.updateHabitatId(List.of(movedAway), from.getId(), to.getId())).isEqualTo(Reassignment.NONE);
+	}
+
+	@Test
+	void healthStatusOnlyMovesForwardInReadingTime() {
+		String id = insertAnimal("Kaa", "Python", "Healthy", null, null).getId();
+		Instant noon = Instant.parse("2024-05-01T12:00:00Z");
+
+		assertThat(repository.updateHealthStatusIfNewer(id, "Sick", noon)).isTrue();
+		assertThat(repository.updateHealthStatusIfNewer(id, "Healthy", noon.minusSeconds(60))).isFalse();
+		assertThat(mongoTemplate.findById(id, Animal.class).getHealthStatus()).isEqualTo("Sick");
+		assertThat(repository.updateHealthStatusIfNewer(id, "Recovering", noon.plusSeconds(60))).isTrue();
+		assertThat(mongoTemplate.findById(id, Animal.class).getHealthStatus()).isEqualTo("Recovering");
+		assertThat(repository.updateHealthStatusIfNewer("missing", "Sick", noon)).isFalse();
+	}
+
+	private Habitat insertHabitat(Integer capacity) {
+		Habitat habitat = new Habitat();
+		habitat.setName("Habitat");
+		habitat.setCapacity(capacity);
+		return mongoTemplate.insert(habitat);
+	}
+
+	private void insertAnimal(String name, String species, String description) {
+		Animal animal = new Animal();
+		animal.setName(name);
+		animal.setSpecies(species);
+		animal.setDescription(description);
+		mongoTemplate.insert(animal);
+	}
+
+	private Animal insertAnimal(String name, String species, String healthStatus, String habitatId, LocalDate dateOfBirth) {
+		Animal animal = new Animal();
+		animal.setName(name);
+		animal.setSpecies(species);
+		animal.setHealthStatus(healthStatus);
+		animal.setHabitatId(habitatId);
+		animal.setDateOfBirth(dateOfBirth);
+		return mongoTemplate.insert(animal);
+	}
+}
@@ -0,0 +1,64 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AnimalSortTest {
+
+	@Test
+	void acceptsOnlyWhitelistedSorts() {
+		assertThat(AnimalSort.fromParameter(null)).isEqualTo(AnimalSort.ID);
+		assertThat(AnimalSort.fromParameter("-dateOfBirth")).isEqualTo(AnimalSort.DATE_OF_BIRTH_DESC);
+		assertThatThrownBy(() -> AnimalSort.fromParameter("description"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("-name");
+	}
+
+	@Test
+	void continuesAfterTheKeyOfTheLastAnimal() {
+		Animal animal = new Animal();
+		animal.setId("64b7f0c2a1b2c3d4e5f60718");
+		animal.setDateOfBirth(LocalDate.of(2020, 5, 17));
+
+		String key = AnimalSort.DATE_OF_BIRTH.keyOf(animal);
+		Document after = AnimalSort.DATE_OF_BIRTH.after(key).getCriteriaObject();
+
+		assertThat(key).isEqualTo("=2020-05-17|64b7f0c2a1b2c3d4e5f60718");
+		assertThat(after.getList("$or", Document.class)).containsExactly(
+				new Document("dateOfBirth", new Document("$gt", LocalDate.of(2020, 5, 17))),
+				new Document("dateOfBirth", LocalDate.of(2020, 5, 17))
+						.append("id", new Document("$gt", "64b7f0c2a1b2c3d4e5f60718")));
+	}
+
+	@Test
+	void separatorsInClientChosenIdsAndNamesSurviveTheKey() {
+		Animal animal = new Animal();
+		animal.setId("otter|7");
+		animal.setName("Pip | the =second");
+
+		Document after = AnimalSort.NAME_DESC.after(AnimalSort.NAME_DESC.keyOf(animal)).getCriteriaObject();
+
+		assertThat(after.getList("$or", Document.class)).contains(
+				new Document("name", "Pip | the =second").append("id", new Document("$lt", "otter|7")));
+		assertThatThrownBy(() -> AnimalSort.NAME.after("otter|7"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void missingValuesLeadAscendingOrders() {
+		Animal animal = new Animal();
+		animal.setId("64b7f0c2a1b2c3d4e5f60718");
+
+		Document after = AnimalSort.NAME.after(AnimalSort.NAME.keyOf(animal)).getCriteriaObject();
+
+		assertThat(after.getList("$or", Document.class)).containsExactly(
+				new Document("name", null).append("id", new Document("$gt", "64b7f0c2a1b2c3d4e5f60718")),
+				new Document("name", new Document("$ne", null)));
+	}
+}
@@ -0,0 +1,144 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.mongodb.client.MongoClient;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HabitatRepositoryImplTest {
+
+	private static final int THREADS = 32;
+	private static final int ATTEMPTS_PER_THREAD = 50;
+	private static final int CAPACITY = 100;
+
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+	private HabitatRepositoryImpl repository;
+
+	@BeforeEach
+	void setUp() {
+		client = MongoTestSupport.connectOrSkip();
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+		repository = new HabitatRepositoryImpl();
+		ReflectionTestUtils.setField(repository, "mongoTemplate", mongoTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@Test
+	void concurrentReservationsNeverExceedCapacity() throws Exception {
+		Habitat habitat = insertHabitat(CAPACITY);
+		AtomicInteger granted = new AtomicInteger();
+
+		runConcurrently(() -> {
+			for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+				if (repository.reserveCapacity(habitat.getId(), 1)) {
+					granted.incrementAndGet();
+				}
+			}
+		});
+
+		assertThat(granted.get()).isEqualTo(CAPACITY);
+		assertThat(occupancyOf(habitat)).isEqualTo(CAPACITY);
+	}
+
+	@Test
+	void concurrentReserveAndReleaseKeepCounterWithinBounds() throws Exception {
+		Habitat habitat = insertHabitat(10);
+		AtomicInteger maxObserved = new AtomicInteger();
+
+		runConcurrently(() -> {
+			for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+				if (repository.reserveCapacity(habitat.getId(), 1)) {
+					maxObserved.accumulateAndGet(occupancyOf(habitat), Math::max);
+					repository.releaseCapacity(habitat.getId(), 1);
+				}
+			}
+		});
+
+		assertThat(maxObserved.get()).isLessThanOrEqualTo(10);
+		assertThat(occupancyOf(habitat)).isZero();
+	}
+
+	@Test
+	void unboundedHabitatAcceptsEveryReservation() {
+		Habitat habitat = insertHabitat(null);
+
+		assertThat(repository.reserveCapacity(habitat.getId(), 500)).isTrue();
+		assertThat(occupancyOf(habitat)).isEqualTo(500);
+	}
+
+	@Test
+	void multiSlotReservationIsAllOrNothing() {
+		Habitat habitat = insertHabitat(5);
+
+		assertThat(repository.reserveCapacity(habitat.getId(), 3)).isTrue();
+		assertThat(repository.reserveCapacity(habitat.getId(), 3)).isFalse();
+		assertThat(occupancyOf(habitat)).isEqualTo(3);
+	}
+
+	@Test
+	void releaseNeverGoesBelowZero() {
+		Habitat habitat = insertHabitat(5);
+
+		repository.releaseCapacity(habitat.getId(), 2);
+
+		assertThat(occupancyOf(habitat)).isZero();
+	}
+
+	private Habitat insertHabitat(Integer capacity) {
+		Habitat habitat = new Habitat();
+		habitat.setName("Savannah");
+		habitat.setCapacity(capacity);
+		return mongoTemplate.insert(habitat);
+	}
+
+	private int occupancyOf(Habitat habitat) {
+		return mongoTemplate.findById(habitat.getId(), Habitat.class).getOccupancy();
+	}
+
+	private static void runConcurrently(Runnable task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					task.run();
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
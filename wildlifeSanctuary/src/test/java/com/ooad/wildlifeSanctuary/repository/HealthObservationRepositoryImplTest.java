@@ -0,0 +1,92 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.mongodb.client.MongoClient;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.dto.HealthSummary;
+import com.ooad.wildlifeSanctuary.model.HealthObservationBucket;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HealthObservationRepositoryImplTest {
+
+	private static final Instant DAY = Instant.parse("2024-05-01T00:00:00Z");
+
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+	private HealthObservationRepositoryImpl repository;
+
+	@BeforeEach
+	void setUp() {
+		client = MongoTestSupport.connectOrSkip();
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+		repository = new HealthObservationRepositoryImpl();
+		ReflectionTestUtils.setField(repository, "mongoTemplate", mongoTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@Test
+	void fullBucketsSpillIntoANewOneForTheSameDay() {
+		for (int hour = 0; hour < 5; hour++) {
+			repository.append("a1", DAY, reading(DAY.plus(Duration.ofHours(hour)), 10.0 + hour, null), 2);
+		}
+
+		List<HealthObservationBucket> buckets = mongoTemplate.findAll(HealthObservationBucket.class);
+		assertThat(buckets).extracting(HealthObservationBucket::getCount).containsExactlyInAnyOrder(2, 2, 1);
+		assertThat(buckets).extracting(HealthObservationBucket::getLastAt).contains(DAY.plus(Duration.ofHours(4)));
+		assertThat(repository.findReadings("a1", DAY.plus(Duration.ofHours(1)), DAY.plus(Duration.ofHours(4)), 10))
+				.extracting(HealthReading::getWeight)
+				.containsExactly(11.0, 12.0, 13.0);
+	}
+
+	@Test
+	void readingAndBucketSummariesAgree() {
+		for (int day = 0; day < 3; day++) {
+			for (int hour = 0; hour < 4; hour++) {
+				Instant at = DAY.plus(Duration.ofDays(day)).plus(Duration.ofHours(hour * 6));
+				repository.append("a1", at.truncatedTo(ChronoUnit.DAYS), reading(at, 100.0 + day + hour, 38.0), 200);
+			}
+		}
+		Instant to = DAY.plus(Duration.ofDays(3));
+
+		List<HealthSummary> fromReadings = repository.summarize("a1", DAY, to, Duration.ofDays(1));
+		List<HealthSummary> fromBuckets = repository.summarizeDays("a1", DAY, to, Duration.ofDays(1));
+
+		assertThat(fromReadings).hasSize(3);
+		assertThat(fromBuckets).usingRecursiveFieldByFieldElementComparator().isEqualTo(fromReadings);
+		assertThat(fromBuckets.get(1).getStart()).isEqualTo(DAY.plus(Duration.ofDays(1)));
+		assertThat(fromBuckets.get(1).getWeight().getMin()).isEqualTo(101.0);
+		assertThat(fromBuckets.get(1).getWeight().getMax()).isEqualTo(104.0);
+		assertThat(fromBuckets.get(1).getWeight().getAvg()).isEqualTo(102.5);
+		assertThat(repository.summarize("a1", DAY, DAY.plus(Duration.ofDays(1)), Duration.ofHours(12)))
+				.extracting(HealthSummary::getCount)
+				.containsExactly(2L, 2L);
+	}
+
+	private static HealthReading reading(Instant at, Double weight, Double temperature) {
+		HealthReading reading = new HealthReading();
+		reading.setAt(at);
+		reading.setWeight(weight);
+		reading.setTemperature(temperature);
+		return reading;
+	}
+}
@@ -0,0 +1,284 @@
+package com.ooad.wildlifeSanctuary.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.config.MongoIndexInitializer;
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.AuditEvent;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import com.ooad.wildlifeSanctuary.model.HealthObservationBucket;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+import com.ooad.wildlifeSanctuary.model.User;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Calls every repository query against a scratch database with the declared indexes,
+ * records the commands the driver actually sends, and explains each of them. A query
+ * whose winning plan scans the whole collection fails the test, and so does a
+ * repository method that this test does not call.
+ */
+class RepositoryQueryPlansTest {
+	private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct", "update", "delete", "findAndModify");
+	private static final Set<String> NOT_EXPLAINABLE_FIELDS = Set.of("$db", "lsid", "$clusterTime", "txnNumber", "$readPreference", "writeConcern");
+	private static final List<Class<?>> REPOSITORIES = List.of(
+			AnimalRepository.class, AnimalRepositoryCustom.class,
+			HabitatRepository.class, HabitatRepositoryCustom.class,
+			CaretakerRepository.class, CaretakerRepositoryCustom.class,
+			UserRepository.class, HealthObservationRepositoryCustom.class, AuditEventRepository.class);
+	// Their derived queries are the blocking ones under the same names
+	private static final List<Class<?>> REACTIVE_REPOSITORIES = List.of(
+			ReactiveAnimalRepository.class, ReactiveAnimalRepositoryCustom.class,
+			ReactiveHabitatRepository.class, ReactiveCaretakerRepository.class, ReactiveUserRepository.class);
+
+	private final List<BsonDocument> recorded = new ArrayList<>();
+	private final Map<String, List<BsonDocument>> commandsByQuery = new LinkedHashMap<>();
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+
+	@BeforeEach
+	void setUp() {
+		CommandListener recorder = new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				if (EXPLAINABLE.contains(event.getCommandName())) {
+					recorded.add(event.getCommand().clone());
+				}
+			}
+		};
+		client = MongoTestSupport.connectOrSkip(List.of(recorder));
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+
+		MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+		for (Class<?> entity : List.of(Animal.class, Habitat.class, Caretaker.class, User.class, HealthObservationBucket.class, AuditEvent.class)) {
+			mappingContext.getRequiredPersistentEntity(entity);
+			mongoTemplate.createCollection(entity);
+		}
+		MongoIndexInitializer initializer = new MongoIndexInitializer();
+		ReflectionTestUtils.setField(initializer, "mongoTemplate", mongoTemplate);
+		ReflectionTestUtils.setField(initializer, "mappingContext", mappingContext);
+		initializer.ensureDeclaredIndexes();
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@Test
+	void everyRepositoryQueryIsIndexSupported() {
+		AnimalRepository animals = MongoTestSupport.repository(mongoTemplate, AnimalRepository.class, new AnimalRepositoryImpl());
+		HabitatRepository habitats = MongoTestSupport.repository(mongoTemplate, HabitatRepository.class, new HabitatRepositoryImpl());
+		CaretakerRepository caretakers = MongoTestSupport.repository(mongoTemplate, CaretakerRepository.class, new CaretakerRepositoryImpl());
+		HealthObservationRepository observations = MongoTestSupport.repository(mongoTemplate, HealthObservationRepository.class, new HealthObservationRepositoryImpl());
+		UserRepository users = new MongoRepositoryFactory(mongoTemplate).getRepository(UserRepository.class);
+		AuditEventRepository auditEvents = new MongoRepositoryFactory(mongoTemplate).getRepository(AuditEventRepository.class);
+
+		Habitat habitat = mongoTemplate.insert(new Habitat());
+		Habitat otherHabitat = mongoTemplate.insert(new Habitat());
+		Caretaker caretaker = mongoTemplate.insert(new Caretaker());
+		Caretaker otherCaretaker = mongoTemplate.insert(new Caretaker());
+		Animal animal = new Animal();
+		animal.setName("Kaa");
+		animal.setSpecies("Python");
+		animal.setHealthStatus("Healthy");
+		animal.setDateOfBirth(LocalDate.of(2020, 1, 1));
+		animal.setHabitatId(habitat.getId());
+		animal.setCaretakerId(caretaker.getId());
+		animal = mongoTemplate.insert(animal);
+		String animalId = animal.getId();
+		String habitatId = habitat.getId();
+		String caretakerId = caretaker.getId();
+		Pageable page = CursorPage.pageRequest(10);
+		Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+		Instant now = Instant.now();
+		HealthReading reading = new HealthReading();
+		reading.setAt(now);
+		reading.setWeight(12.5);
+		reading.setHealthStatus("Healthy");
+
+		query("AnimalRepository.findByHabitatId/1", () -> animals.findByHabitatId(habitatId));
+		query("AnimalRepository.findByHabitatId/2", () -> animals.findByHabitatId(habitatId, page));
+		query("AnimalRepository.findByCaretakerId/1", () -> animals.findByCaretakerId(caretakerId));
+		query("AnimalRepository.findByCaretakerId/2", () -> animals.findByCaretakerId(caretakerId, page));
+		query("AnimalRepository.findAllBy/1", () -> animals.findAllBy(page));
+		query("AnimalRepository.findByIdGreaterThan/2", () -> animals.findByIdGreaterThan(animalId, page));
+		query("AnimalRepository.findByHabitatIdAndIdGreaterThan/3", () -> animals.findByHabitatIdAndIdGreaterThan(habitatId, animalId, page));
+		query("AnimalRepository.findByCaretakerIdAndIdGreaterThan/3", () -> animals.findByCaretakerIdAndIdGreaterThan(caretakerId, animalId, page));
+		query("AnimalRepositoryCustom.findAnimalIdsGroupedByHabitat/0", animals::findAnimalIdsGroupedByHabitat);
+		query("AnimalRepositoryCustom.findAnimalIdsGroupedByCaretaker/0", animals::findAnimalIdsGroupedByCaretaker);
+		query("AnimalRepositoryCustom.findIdsByHabitatId/2", () -> {
+			animals.findIdsByHabitatId(habitatId, null);
+			animals.findIdsByHabitatId(habitatId, "Python");
+		});
+		query("AnimalRepositoryCustom.findIdsByCaretakerId/1", () -> animals.findIdsByCaretakerId(caretakerId));
+		query("AnimalRepositoryCustom.updateHabitatId/3", () -> animals.updateHabitatId(List.of(animalId), habitatId, otherHabitat.getId()));
+		query("AnimalRepositoryCustom.updateCaretakerId/3", () -> animals.updateCaretakerId(List.of(animalId), caretakerId, otherCaretaker.getId()));
+		query("AnimalRepositoryCustom.findHabitatIdsByIds/1", () -> animals.findHabitatIdsByIds(List.of(animalId)));
+		query("AnimalRepositoryCustom.countAnimalsByHabitat/0", animals::countAnimalsByHabitat);
+		query("AnimalRepositoryCustom.updateHealthStatusIfNewer/3", () -> animals.updateHealthStatusIfNewer(animalId, "Sick", now));
+		query("AnimalRepositoryCustom.searchByText/3", () -> animals.searchByText("Kaa", 0, 10));
+		Animal seen = animal;
+		query("AnimalRepositoryCustom.findByFilter/5", () -> {
+			AnimalFilter none = new AnimalFilter(null, null, null, null, null, null);
+			for (AnimalSort sort : AnimalSort.values()) {
+				animals.findByFilter(none, sort, null, 10, null);
+				animals.findByFilter(none, sort, sort.keyOf(seen), 10, null);
+			}
+			animals.findByFilter(new AnimalFilter(List.of("Python"), null, null, null, null, null), AnimalSort.ID, null, 10, null);
+			animals.findByFilter(new AnimalFilter(null, List.of("Healthy"), null, null, null, null), AnimalSort.ID, null, 10, null);
+			animals.findByFilter(new AnimalFilter(List.of("Python"), List.of("Healthy"), null, null, null, null), AnimalSort.ID, null, 10, Set.of("name"));
+			animals.findByFilter(new AnimalFilter(null, null, null, caretakerId, null, null), AnimalSort.ID_DESC, null, 10, null);
+			animals.findByFilter(new AnimalFilter(null, null, null, null, LocalDate.of(2019, 1, 1), LocalDate.of(2021, 1, 1)), AnimalSort.ID, null, 10, null);
+			animals.findByFilter(new AnimalFilter(null, null, habitatId, null, LocalDate.of(2019, 1, 1), null), AnimalSort.NAME, null, 10, null);
+		});
+		query("HabitatRepository.findAllBy/1", () -> habitats.findAllBy(page));
+		query("HabitatRepository.findByIdGreaterThan/2", () -> habitats.findByIdGreaterThan(habitatId, page));
+		query("HabitatRepositoryCustom.transferAnimalIds/3", () -> habitats.transferAnimalIds(habitatId, otherHabitat.getId(), List.of(animalId)));
+		query("HabitatRepositoryCustom.reserveCapacity/2", () -> habitats.reserveCapacity(habitatId, 1));
+		query("HabitatRepositoryCustom.releaseCapacity/2", () -> habitats.releaseCapacity(habitatId, 1));
+		query("HabitatRepositoryCustom.resetOccupancy/1", () -> habitats.resetOccupancy(Map.of(habitatId, 1)));
+		query("CaretakerRepository.findByUserId/1", () -> caretakers.findByUserId("user"));
+		query("CaretakerRepository.findByEmail/1", () -> caretakers.findByEmail("keeper@example.org"));
+		query("CaretakerRepository.findAllBy/1", () -> caretakers.findAllBy(page));
+		query("CaretakerRepository.findByIdGreaterThan/2", () -> caretakers.findByIdGreaterThan(caretakerId, page));
+		query("CaretakerRepositoryCustom.transferAnimalIds/3", () -> caretakers.transferAnimalIds(caretakerId, otherCaretaker.getId(), List.of(animalId)));
+		query("UserRepository.findByUsername/1", () -> users.findByUsername("keeper"));
+		query("UserRepository.findByEmail/1", () -> users.findByEmail("keeper@example.org"));
+		query("HealthObservationRepositoryCustom.append/4", () -> observations.append(animalId, now.truncatedTo(ChronoUnit.DAYS), reading, 200));
+		query("HealthObservationRepositoryCustom.findReadings/4", () -> observations.findReadings(animalId, now.minus(Duration.ofDays(7)), now, 10));
+		query("HealthObservationRepositoryCustom.summarize/4", () -> observations.summarize(animalId, now.minus(Duration.ofDays(7)), now, Duration.ofHours(1)));
+		query("HealthObservationRepositoryCustom.summarizeDays/4", () -> observations.summarizeDays(animalId, now.minus(Duration.ofDays(7)), now, Duration.ofDays(1)));
+		query("AuditEventRepository.findByEntityTypeAndEntityId/3", () -> auditEvents.findByEntityTypeAndEntityId("animal", animalId, newestFirst));
+		query("AuditEventRepository.findByEntityTypeAndEntityIdAndIdLessThan/4", () -> auditEvents.findByEntityTypeAndEntityIdAndIdLessThan("animal", animalId, animalId, newestFirst));
+		// Last, since it removes the animal the other queries look up
+		query("AnimalRepositoryCustom.findAndDeleteById/1", () -> animals.findAndDeleteById(animalId));
+
+		assertThat(commandsByQuery.keySet()).containsAll(declaredQueries());
+		Map<String, List<String>> collectionScans = new LinkedHashMap<>();
+		commandsByQuery.forEach((name, commands) -> {
+			assertThat(commands).as("commands sent by %s", name).isNotEmpty();
+			for (BsonDocument command : commands) {
+				for (BsonDocument explainable : explainable(command)) {
+					Document explain = mongoTemplate.getDb().runCommand(
+							new BsonDocument("explain", explainable).append("verbosity", new BsonString("queryPlanner")));
+					if (winningPlanContains(explain, "COLLSCAN")) {
+						collectionScans.computeIfAbsent(name, key -> new ArrayList<>()).add(explainable.toJson());
+					}
+				}
+			}
+		});
+		assertThat(collectionScans).isEmpty();
+	}
+
+	private void query(String name, Runnable call) {
+		recorded.clear();
+		call.run();
+		commandsByQuery.put(name, List.copyOf(recorded));
+	}
+
+	private static Set<String> declaredQueries() {
+		Set<String> declared = new TreeSet<>();
+		for (Class<?> repository : REPOSITORIES) {
+			declared.addAll(queryNames(repository, repository.getSimpleName()));
+		}
+		for (Class<?> repository : REACTIVE_REPOSITORIES) {
+			declared.addAll(queryNames(repository, repository.getSimpleName().substring("Reactive".length())));
+		}
+		return declared;
+	}
+
+	private static List<String> queryNames(Class<?> repository, String name) {
+		List<String> names = new ArrayList<>();
+		for (Method method : repository.getDeclaredMethods()) {
+			if (!method.isDefault() && !Modifier.isStatic(method.getModifiers())) {
+				names.add(name + "." + method.getName() + "/" + method.getParameterCount());
+			}
+		}
+		return names;
+	}
+
+	// explain takes a single write statement, and none of the session or routing fields
+	private static List<BsonDocument> explainable(BsonDocument command) {
+		BsonDocument stripped = new BsonDocument();
+		command.forEach((key, value) -> {
+			if (!NOT_EXPLAINABLE_FIELDS.contains(key)) {
+				stripped.append(key, value);
+			}
+		});
+		String statements = stripped.containsKey("updates") ? "updates" : stripped.containsKey("deletes") ? "deletes" : null;
+		if (statements == null) {
+			return List.of(stripped);
+		}
+		List<BsonDocument> single = new ArrayList<>();
+		for (BsonValue statement : stripped.getArray(statements)) {
+			BsonDocument one = stripped.clone();
+			one.put(statements, new BsonArray(List.of(statement)));
+			single.add(one);
+		}
+		return single;
+	}
+
+	private static boolean winningPlanContains(Object node, String stage) {
+		if (node instanceof Document document) {
+			if (document.containsKey("winningPlan") && containsStage(document.get("winningPlan"), stage)) {
+				return true;
+			}
+			return document.values().stream().anyMatch(value -> winningPlanContains(value, stage));
+		}
+		if (node instanceof List<?> list) {
+			return list.stream().anyMatch(value -> winningPlanContains(value, stage));
+		}
+		return false;
+	}
+
+	private static boolean containsStage(Object node, String stage) {
+		if (node instanceof Document document) {
+			if (stage.equals(document.get("stage"))) {
+				return true;
+			}
+			return document.values().stream().anyMatch(value -> containsStage(value, stage));
+		}
+		if (node instanceof List<?> list) {
+			return list.stream().anyMatch(value -> containsStage(value, stage));
+		}
+		return false;
+	}
+}
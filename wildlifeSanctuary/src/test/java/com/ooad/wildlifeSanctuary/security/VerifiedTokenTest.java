@@ -0,0 +1,30 @@
+package com.ooad.wildlifeSanctuary.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenTest {
+
+	@Test
+	void callersCannotChangeTheSharedToken() {
+		Date expiration = new Date(System.currentTimeMillis() + 60_000);
+		Claims parsed = Jwts.claims().setSubject("keeper").setExpiration(expiration);
+		parsed.put("role", "ROLE_CARETAKER");
+		VerifiedToken token = new VerifiedToken(parsed);
+		Date verifiedExpiration = token.getExpiration();
+
+		token.getClaims().setSubject("intruder").put("role", "ROLE_ADMIN");
+		token.getExpiration().setTime(0);
+		parsed.put("role", "ROLE_ADMIN");
+
+		assertThat(token.getClaims().getSubject()).isEqualTo("keeper");
+		assertThat(token.getClaims().get("role")).isEqualTo("ROLE_CARETAKER");
+		assertThat(token.getExpiration()).isEqualTo(verifiedExpiration);
+		assertThat(token.isExpired()).isFalse();
+	}
+}
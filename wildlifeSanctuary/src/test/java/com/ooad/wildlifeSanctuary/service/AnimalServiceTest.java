@@ -0,0 +1,97 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.repository.AnimalRepository;
+import com.ooad.wildlifeSanctuary.repository.AnimalRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AnimalServiceTest {
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+
+	@AfterEach
+	void tearDown() {
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@Test
+	void clientsCannotWriteTheHealthStatusGuard() throws Exception {
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+		AnimalService animalService = animalService(new MongoTemplate(mock(MongoDatabaseFactory.class), converter));
+
+		Animal posted = objectMapper.readValue("{\"name\":\"Kaa\",\"healthStatusAt\":\"2999-01-01T00:00:00Z\"}", Animal.class);
+
+		assertThat(posted.getHealthStatusAt()).isNull();
+		assertThatThrownBy(() -> animalService.patchAnimal("a1", Map.of("healthStatusAt", "2999-01-01T00:00:00Z")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void putDoesNotResetTheHealthStatusGuard() {
+		client = MongoTestSupport.connectOrSkip();
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+		AnimalService animalService = animalService(mongoTemplate);
+		Animal stored = new Animal();
+		stored.setName("Kaa");
+		stored.setHealthStatus("Healthy");
+		String id = mongoTemplate.insert(stored).getId();
+		Instant readingAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+		assertThat(animalService.applyHealthStatus(id, "Sick", readingAt)).isTrue();
+
+		Animal replacement = new Animal();
+		replacement.setName("Kaa");
+		replacement.setHealthStatus("Recovering");
+		animalService.updateAnimal(id, replacement);
+		boolean olderApplied = animalService.applyHealthStatus(id, "Healthy", readingAt.minus(Duration.ofHours(1)));
+
+		Animal reloaded = mongoTemplate.findById(id, Animal.class);
+		assertThat(olderApplied).isFalse();
+		assertThat(reloaded.getHealthStatus()).isEqualTo("Recovering");
+		assertThat(reloaded.getHealthStatusAt()).isEqualTo(readingAt);
+	}
+
+	private AnimalService animalService(MongoTemplate template) {
+		PartialUpdater partialUpdater = new PartialUpdater();
+		ReflectionTestUtils.setField(partialUpdater, "mongoTemplate", template);
+		ReflectionTestUtils.setField(partialUpdater, "mappingContext", template.getConverter().getMappingContext());
+		ReflectionTestUtils.setField(partialUpdater, "objectMapper", objectMapper);
+		AnimalService animalService = new AnimalService();
+		ReflectionTestUtils.setField(animalService, "animalRepository",
+				MongoTestSupport.repository(template, AnimalRepository.class, new AnimalRepositoryImpl()));
+		ReflectionTestUtils.setField(animalService, "partialUpdater", partialUpdater);
+		ReflectionTestUtils.setField(animalService, "entityChanges", mock(EntityChanges.class));
+		return animalService;
+	}
+}
@@ -0,0 +1,78 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of {@link AnimalSuggestionIndex} at realistic sizes. Not run by the test
+ * suite; start {@link #main} after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimalSuggestionIndexBenchmark {
+	private static final String[] SPECIES = {"Snow Leopard", "African Elephant", "Red Panda", "Bengal Tiger",
+			"Grey Wolf", "Brown Bear", "Plains Zebra", "Reticulated Giraffe", "Sea Otter", "Barn Owl"};
+
+	@Param({"10000", "100000"})
+	private int animals;
+
+	private AnimalSuggestionIndex index;
+	private String[] prefixes;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		index = new AnimalSuggestionIndex();
+		Random random = new Random(42);
+		for (int i = 0; i < animals; i++) {
+			index.put(Integer.toString(i), randomName(random) + " " + i, SPECIES[random.nextInt(SPECIES.length)]);
+		}
+		prefixes = new String[1024];
+		for (int i = 0; i < prefixes.length; i++) {
+			prefixes[i] = randomName(random).substring(0, 1 + random.nextInt(3));
+		}
+	}
+
+	@Benchmark
+	public List<String> suggestNames() {
+		return index.suggestNames(prefixes[next++ & (prefixes.length - 1)], AnimalSuggestionIndex.DEFAULT_LIMIT);
+	}
+
+	@Benchmark
+	public List<String> suggestSpecies() {
+		return index.suggestSpecies(prefixes[next++ & (prefixes.length - 1)], AnimalSuggestionIndex.DEFAULT_LIMIT);
+	}
+
+	private static String randomName(Random random) {
+		char[] name = new char[4 + random.nextInt(6)];
+		for (int i = 0; i < name.length; i++) {
+			name[i] = (char) ('a' + random.nextInt(26));
+		}
+		name[0] = Character.toUpperCase(name[0]);
+		return new String(name);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AnimalSuggestionIndexBenchmark.class.getSimpleName()).build()).run();
+	}
+}
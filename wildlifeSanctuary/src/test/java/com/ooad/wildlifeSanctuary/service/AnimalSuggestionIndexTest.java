@@ -0,0 +1,52 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnimalSuggestionIndexTest {
+
+	private final AnimalSuggestionIndex index = new AnimalSuggestionIndex();
+
+	@Test
+	void suggestsByNormalizedPrefixOfAnyWord() {
+		index.put("1", "Zoë", "Snow Leopard");
+		index.put("2", "Zorro", "Leopard");
+		index.put("3", "Bella", "Lion");
+
+		assertThat(index.suggestNames("zo", 10)).containsExactly("Zoë", "Zorro");
+		assertThat(index.suggestNames("ZOE", 10)).containsExactly("Zoë");
+		assertThat(index.suggestSpecies("leo", 10)).containsExactlyInAnyOrder("Leopard", "Snow Leopard");
+		assertThat(index.suggestSpecies("l", 1)).hasSize(1);
+		assertThat(index.suggestSpecies(" ", 10)).isEmpty();
+	}
+
+	@Test
+	void sharedValuesStayUntilTheirLastAnimalIsGone() {
+		index.put("1", "Rex", "Lion");
+		index.put("2", "Max", "Lion");
+
+		index.onEntityChange(new EntityChangeEvent(Animal.class, List.of("1"), EntityChangeEvent.ChangeType.DELETED));
+		assertThat(index.suggestSpecies("li", 10)).containsExactly("Lion");
+		assertThat(index.suggestNames("re", 10)).isEmpty();
+
+		index.put("2", "Max", "Tiger");
+		assertThat(index.suggestSpecies("li", 10)).isEmpty();
+		assertThat(index.suggestSpecies("ti", 10)).containsExactly("Tiger");
+	}
+
+	@Test
+	void stopsIndexingNewValuesAtTheTermLimit() {
+		ReflectionTestUtils.setField(index, "maxTerms", 3);
+		index.put("1", "Ada", "Snow Leopard");
+		index.put("2", "Bo", "Lion");
+
+		assertThat(index.size()).isEqualTo(3);
+		assertThat(index.suggestNames("bo", 10)).isEmpty();
+		assertThat(index.suggestSpecies("sn", 10)).containsExactly("Snow Leopard");
+	}
+}
@@ -0,0 +1,188 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.AuditEvent;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+import com.ooad.wildlifeSanctuary.model.User;
+import com.ooad.wildlifeSanctuary.service.EntityChangeEvent.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class AuditLogTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<List<AuditEvent>> batches = new ArrayList<>();
+	private final List<String> writerThreads = new ArrayList<>();
+	private final List<Supplier<Object>> failures = new ArrayList<>();
+	private Runnable beforeWrite = () -> { };
+	private AuditLog auditLog;
+
+	@BeforeEach
+	void setUp() {
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditEvent.class)).thenAnswer(invocation -> {
+			BulkOperations bulkOps = mock(BulkOperations.class);
+			doAnswer(insert -> {
+				List<AuditEvent> batch = insert.getArgument(0);
+				beforeWrite.run();
+				synchronized (batches) {
+					batches.add(List.copyOf(batch));
+					writerThreads.add(Thread.currentThread().getName());
+				}
+				return bulkOps;
+			}).when(bulkOps).insert(anyList());
+			when(bulkOps.execute()).thenAnswer(execute -> failures.isEmpty() ? null : failures.remove(0).get());
+			return bulkOps;
+		});
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken("manager1", null, List.of()));
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		SecurityContextHolder.clearContext();
+		if (auditLog != null) {
+			auditLog.stop();
+		}
+	}
+
+	@Test
+	void writesInBatchesAndDrainsOnShutdown() throws InterruptedException {
+		auditLog = start(3, AuditLog.OverflowPolicy.CALLER_RUNS, 100);
+
+		for (int i = 0; i < 7; i++) {
+			auditLog.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a" + i), ChangeType.UPDATED));
+		}
+		auditLog.stop();
+		auditLog = null;
+
+		List<AuditEvent> written = batches.stream().flatMap(List::stream).toList();
+		assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(3));
+		assertThat(written).extracting(AuditEvent::getEntityId)
+				.containsExactly("a0", "a1", "a2", "a3", "a4", "a5", "a6");
+		assertThat(written).extracting(AuditEvent::getId).isSorted();
+		assertThat(written).allSatisfy(event -> {
+			assertThat(event.getEntityType()).isEqualTo("animal");
+			assertThat(event.getChangeType()).isEqualTo("UPDATED");
+			assertThat(event.getActor()).isEqualTo("manager1");
+		});
+		assertThat(meterRegistry.counter("audit.events.written").count()).isEqualTo(7);
+	}
+
+	@Test
+	void overflowIsDroppedOrWrittenByTheCallerAsConfigured() throws InterruptedException {
+		CountDownLatch writerBusy = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		beforeWrite = () -> {
+			if (Thread.currentThread().getName().equals("audit-writer")) {
+				writerBusy.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+
+		auditLog = start(10, AuditLog.OverflowPolicy.DROP, 2);
+		auditLog.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a0"), ChangeType.UPDATED));
+		assertThat(writerBusy.await(10, TimeUnit.SECONDS)).isTrue();
+		auditLog.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a1", "a2", "a3"), ChangeType.UPDATED));
+		assertThat(meterRegistry.counter("audit.events.dropped", "reason", "overflow").count()).isEqualTo(1);
+
+		ReflectionTestUtils.setField(auditLog, "overflowPolicy", AuditLog.OverflowPolicy.CALLER_RUNS);
+		auditLog.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a4"), ChangeType.UPDATED));
+		assertThat(batches).singleElement().satisfies(batch ->
+				assertThat(batch).extracting(AuditEvent::getEntityId).containsExactly("a4"));
+		assertThat(writerThreads).containsExactly(Thread.currentThread().getName());
+
+		release.countDown();
+		auditLog.stop();
+		auditLog = null;
+		assertThat(batches.stream().flatMap(List::stream).map(AuditEvent::getEntityId))
+				.containsExactlyInAnyOrder("a0", "a1", "a2", "a4");
+	}
+
+	@Test
+	void retriesOnlyTheEventsThatWereNotWritten() throws InterruptedException {
+		// First attempt: event 0 was written by an earlier, interrupted attempt and event 2 failed
+		failures.add(() -> {
+			throw new BulkOperationException("partial failure", new MongoBulkWriteException(
+					BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()),
+					List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0),
+							new BulkWriteError(91, "shutting down", new BsonDocument(), 2)),
+					null, new ServerAddress(), Set.of()));
+		});
+		auditLog = start(3, AuditLog.OverflowPolicy.CALLER_RUNS, 100);
+		ReflectionTestUtils.setField(auditLog, "maxAttempts", 3);
+
+		auditLog.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a0", "a1", "a2"), ChangeType.UPDATED));
+		auditLog.stop();
+		auditLog = null;
+
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(1)).extracting(AuditEvent::getEntityId).containsExactly("a2");
+		assertThat(meterRegistry.counter("audit.events.written").count()).isEqualTo(3);
+		assertThat(meterRegistry.find("audit.events.dropped").counter()).isNull();
+	}
+
+	@Test
+	void recordsWholeTypeChangesAndSkipsRemoteOrUnauditedOnes() throws InterruptedException {
+		SecurityContextHolder.clearContext();
+		auditLog = start(10, AuditLog.OverflowPolicy.CALLER_RUNS, 100);
+
+		auditLog.onEntityChange(new EntityChangeEvent(User.class, List.of(), ChangeType.UPDATED));
+		auditLog.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a1"), ChangeType.DELETED, true));
+		auditLog.onEntityChange(new EntityChangeEvent(HealthReading.class, List.of("r1"), ChangeType.CREATED));
+		auditLog.stop();
+		auditLog = null;
+
+		assertThat(batches.stream().flatMap(List::stream)).singleElement().satisfies(event -> {
+			assertThat(event.getEntityType()).isEqualTo("user");
+			assertThat(event.getEntityId()).isNull();
+			assertThat(event.getActor()).isNull();
+		});
+	}
+
+	private AuditLog start(int batchSize, AuditLog.OverflowPolicy overflowPolicy, int queueCapacity) {
+		AuditLog started = new AuditLog();
+		ReflectionTestUtils.setField(started, "mongoTemplate", mongoTemplate);
+		ReflectionTestUtils.setField(started, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(started, "enabled", true);
+		ReflectionTestUtils.setField(started, "queueCapacity", queueCapacity);
+		ReflectionTestUtils.setField(started, "batchSize", batchSize);
+		ReflectionTestUtils.setField(started, "flushInterval", Duration.ofMillis(200));
+		ReflectionTestUtils.setField(started, "overflowPolicy", overflowPolicy);
+		ReflectionTestUtils.setField(started, "blockTimeout", Duration.ofMillis(10));
+		ReflectionTestUtils.setField(started, "maxAttempts", 1);
+		ReflectionTestUtils.setField(started, "retryDelay", Duration.ZERO);
+		ReflectionTestUtils.setField(started, "shutdownTimeout", Duration.ofSeconds(10));
+		started.start();
+		return started;
+	}
+}
@@ -0,0 +1,100 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.mongodb.client.MongoClient;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheInvalidationBusTest {
+
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+	private CacheInvalidationBus nodeA;
+	private CacheInvalidationBus nodeB;
+	private final BlockingQueue<Object> receivedByA = new LinkedBlockingQueue<>();
+	private final BlockingQueue<Object> receivedByB = new LinkedBlockingQueue<>();
+
+	@BeforeEach
+	void setUp() {
+		client = MongoTestSupport.connectOrSkip();
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+		nodeA = startNode(receivedByA);
+		nodeB = startNode(receivedByB);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (nodeA != null) {
+			nodeA.stop();
+			nodeB.stop();
+		}
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@Test
+	void otherNodesReceiveChangesAsRemoteEvents() throws InterruptedException {
+		awaitCollection();
+
+		nodeA.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a1", "a2"), EntityChangeEvent.ChangeType.UPDATED));
+
+		EntityChangeEvent event = (EntityChangeEvent) receivedByB.poll(10, TimeUnit.SECONDS);
+		assertThat(event).isNotNull();
+		assertThat(event.isRemote()).isTrue();
+		assertThat(event.getEntityType()).isEqualTo(Animal.class);
+		assertThat(event.getIds()).containsExactly("a1", "a2");
+		assertThat(receivedByA.poll(500, TimeUnit.MILLISECONDS)).isNull();
+	}
+
+	@Test
+	void remoteEventsAreNotPublishedAgain() throws InterruptedException {
+		awaitCollection();
+
+		nodeA.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a1"), EntityChangeEvent.ChangeType.DELETED, true));
+
+		assertThat(receivedByB.poll(2, TimeUnit.SECONDS)).isNull();
+	}
+
+	private CacheInvalidationBus startNode(BlockingQueue<Object> received) {
+		CacheInvalidationBus bus = new CacheInvalidationBus();
+		ReflectionTestUtils.setField(bus, "mongoTemplate", mongoTemplate);
+		ReflectionTestUtils.setField(bus, "eventPublisher", (ApplicationEventPublisher) received::add);
+		ReflectionTestUtils.setField(bus, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(bus, "enabled", true);
+		ReflectionTestUtils.setField(bus, "collectionName", "cache_invalidations");
+		ReflectionTestUtils.setField(bus, "maxBytes", 1_048_576L);
+		ReflectionTestUtils.setField(bus, "maxEvents", 1000L);
+		ReflectionTestUtils.setField(bus, "await", Duration.ofMillis(200));
+		ReflectionTestUtils.setField(bus, "retryDelay", Duration.ofMillis(100));
+		bus.start();
+		return bus;
+	}
+
+	private void awaitCollection() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!mongoTemplate.collectionExists("cache_invalidations") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		// Give both tailers time to open their cursors
+		Thread.sleep(500);
+	}
+
+}
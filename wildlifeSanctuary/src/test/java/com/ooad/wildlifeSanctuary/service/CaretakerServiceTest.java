@@ -0,0 +1,96 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Caretaker;
+import com.ooad.wildlifeSanctuary.repository.AnimalRepository;
+import com.ooad.wildlifeSanctuary.repository.AnimalRepositoryImpl;
+import com.ooad.wildlifeSanctuary.repository.CaretakerRepository;
+import com.ooad.wildlifeSanctuary.repository.CaretakerRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaretakerServiceTest {
+
+	private final List<String> commands = new CopyOnWriteArrayList<>();
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+	private CaretakerService caretakerService;
+
+	@BeforeEach
+	void setUp() {
+		CommandListener recorder = new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				commands.add(event.getCommandName());
+			}
+		};
+		client = MongoTestSupport.connectOrSkip(List.of(recorder));
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+
+		AnimalService animalService = new AnimalService();
+		ReflectionTestUtils.setField(animalService, "animalRepository",
+				MongoTestSupport.repository(mongoTemplate, AnimalRepository.class, new AnimalRepositoryImpl()));
+		caretakerService = new CaretakerService();
+		ReflectionTestUtils.setField(caretakerService, "caretakerRepository",
+				MongoTestSupport.repository(mongoTemplate, CaretakerRepository.class, new CaretakerRepositoryImpl()));
+		ReflectionTestUtils.setField(caretakerService, "animalService", animalService);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 50, 500})
+	void caretakersWithAnimalsIssuesFixedNumberOfQueries(int caretakerCount) {
+		List<Caretaker> caretakers = new ArrayList<>();
+		for (int i = 0; i < caretakerCount; i++) {
+			Caretaker caretaker = new Caretaker();
+			caretaker.setName("Caretaker " + i);
+			caretaker.setEmail("caretaker" + i + "@example.org");
+			caretakers.add(caretaker);
+		}
+		caretakers = new ArrayList<>(mongoTemplate.insertAll(caretakers));
+		String first = caretakers.get(0).getId();
+		mongoTemplate.insertAll(List.of(animal("Kaa", first), animal("Stray", null)));
+		commands.clear();
+
+		List<Caretaker> result = caretakerService.getCaretakersWithAnimals();
+
+		// getMore only fetches further batches of the same two cursors
+		assertThat(commands.stream().filter(command -> !command.equals("getMore")))
+				.containsExactly("find", "aggregate");
+		assertThat(result).hasSize(caretakerCount);
+		Caretaker withAnimals = result.stream().filter(caretaker -> caretaker.getId().equals(first)).findFirst().orElseThrow();
+		assertThat(withAnimals.getAssignedAnimalIds()).hasSize(1);
+		assertThat(result).filteredOn(caretaker -> !caretaker.getId().equals(first))
+				.allMatch(caretaker -> caretaker.getAssignedAnimalIds().isEmpty());
+	}
+
+	private static Animal animal(String name, String caretakerId) {
+		Animal animal = new Animal();
+		animal.setName(name);
+		animal.setCaretakerId(caretakerId);
+		return animal;
+	}
+}
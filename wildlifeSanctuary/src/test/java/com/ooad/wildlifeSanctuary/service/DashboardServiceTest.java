@@ -0,0 +1,139 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.dto.CursorPage;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+	@Mock
+	private StatisticsService statisticsService;
+
+	@Mock
+	private AnimalService animalService;
+
+	@Mock
+	private HabitatService habitatService;
+
+	@Mock
+	private CaretakerService caretakerService;
+
+	@InjectMocks
+	private DashboardService dashboardService;
+
+	@BeforeEach
+	void startPool() {
+		ReflectionTestUtils.setField(dashboardService, "meterRegistry", new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(dashboardService, "poolSize", 8);
+		ReflectionTestUtils.setField(dashboardService, "queueCapacity", 16);
+		ReflectionTestUtils.setField(dashboardService, "queryTimeout", Duration.ofMillis(500));
+		dashboardService.start();
+	}
+
+	@AfterEach
+	void stopPool() {
+		dashboardService.stop();
+	}
+
+	@Test
+	void queriesRunConcurrently() {
+		when(statisticsService.getAnimalStatistics()).thenAnswer(invocation -> slow(200, Map.of("totalAnimals", 3L)));
+		when(statisticsService.getHabitatStatistics()).thenAnswer(invocation -> slow(200, Map.of("totalHabitats", 1L)));
+		when(statisticsService.getCaretakerStatistics()).thenAnswer(invocation -> slow(200, Map.of("totalCaretakers", 2L)));
+		Habitat habitat = new Habitat();
+		habitat.setId("h1");
+		when(habitatService.getHabitatsPage(null, CursorPage.DEFAULT_LIMIT)).thenAnswer(invocation -> slow(200, page(habitat)));
+		when(animalService.getAnimalIdsByHabitat()).thenAnswer(invocation -> slow(200, Map.of("h1", List.of("a1", "a2"))));
+		when(animalService.getAnimalsPage(null, CursorPage.DEFAULT_LIMIT)).thenAnswer(invocation -> slow(200, page()));
+		when(caretakerService.getCaretakersPage(null, CursorPage.DEFAULT_LIMIT)).thenAnswer(invocation -> slow(200, page()));
+
+		long started = System.nanoTime();
+		Map<String, Object> dashboard = dashboardService.getDashboard();
+		long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+		// Seven 200ms queries back to back would take 1.4s
+		assertThat(elapsedMillis).isLessThan(700);
+		assertThat(dashboard.get("partial")).isEqualTo(false);
+		assertThat((Map<String, Object>) dashboard.get("statistics"))
+				.containsEntry("totalAnimals", 3L)
+				.containsEntry("totalHabitats", 1L)
+				.containsEntry("totalCaretakers", 2L);
+		assertThat(habitat.getAnimalIds()).containsExactly("a1", "a2");
+	}
+
+	@Test
+	void failedAndSlowQueriesAreReportedAsUnavailable() {
+		when(statisticsService.getAnimalStatistics()).thenReturn(Map.of("totalAnimals", 3L));
+		when(statisticsService.getHabitatStatistics()).thenThrow(new IllegalStateException("down"));
+		when(statisticsService.getCaretakerStatistics()).thenReturn(Map.of("totalCaretakers", 2L));
+		when(habitatService.getHabitatsPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page());
+		when(animalService.getAnimalIdsByHabitat()).thenReturn(Map.of());
+		when(animalService.getAnimalsPage(null, CursorPage.DEFAULT_LIMIT)).thenAnswer(invocation -> slow(2_000, page()));
+		when(caretakerService.getCaretakersPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page());
+
+		long started = System.nanoTime();
+		Map<String, Object> dashboard = dashboardService.getDashboard();
+		long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+		assertThat(elapsedMillis).isLessThan(1_500);
+		assertThat(dashboard.get("partial")).isEqualTo(true);
+		assertThat((List<String>) dashboard.get("unavailable")).containsExactlyInAnyOrder("habitatStatistics", "animals");
+		assertThat(dashboard.get("animals")).isNull();
+		assertThat(((CursorPage<?>) dashboard.get("caretakers")).getItems()).isEmpty();
+		assertThat((Map<String, Object>) dashboard.get("statistics"))
+				.containsEntry("totalAnimals", 3L)
+				.doesNotContainKey("totalHabitats");
+	}
+
+	@Test
+	void timedOutQueriesDoNotHoldThePool() {
+		// One thread, so a stalled query that kept running would starve every later call
+		dashboardService.stop();
+		ReflectionTestUtils.setField(dashboardService, "poolSize", 1);
+		ReflectionTestUtils.setField(dashboardService, "queueCapacity", 8);
+		ReflectionTestUtils.setField(dashboardService, "queryTimeout", Duration.ofMillis(300));
+		dashboardService.start();
+		when(statisticsService.getAnimalStatistics())
+				.thenAnswer(invocation -> slow(60_000, Map.of()))
+				.thenReturn(Map.of("totalAnimals", 3L));
+		when(statisticsService.getHabitatStatistics()).thenReturn(Map.of("totalHabitats", 1L));
+		when(statisticsService.getCaretakerStatistics()).thenReturn(Map.of("totalCaretakers", 2L));
+		when(habitatService.getHabitatsPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page());
+		when(animalService.getAnimalIdsByHabitat()).thenReturn(Map.of());
+		when(animalService.getAnimalsPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page());
+		when(caretakerService.getCaretakersPage(null, CursorPage.DEFAULT_LIMIT)).thenReturn(page());
+
+		Map<String, Object> stalled = dashboardService.getDashboard();
+		Map<String, Object> next = dashboardService.getDashboard();
+
+		assertThat((List<String>) stalled.get("unavailable")).contains("animalStatistics");
+		assertThat(next.get("partial")).isEqualTo(false);
+		assertThat((Map<String, Object>) next.get("statistics")).containsEntry("totalAnimals", 3L);
+	}
+
+	@SafeVarargs
+	private static <T> CursorPage<T> page(T... items) {
+		return new CursorPage<>(List.of(items), null, CursorPage.DEFAULT_LIMIT);
+	}
+
+	private static <T> T slow(long millis, T value) throws InterruptedException {
+		Thread.sleep(millis);
+		return value;
+	}
+}
@@ -0,0 +1,30 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateFieldExceptionTest {
+
+	@Test
+	void readsCollidingFieldFromServerMessage() {
+		DuplicateKeyException e = new DuplicateKeyException("Write operation error on server localhost:27017. "
+				+ "Write error: WriteError{code=11000, message='E11000 duplicate key error collection: "
+				+ "wildlifeSanctuary.users index: email dup key: { email: \"a@b.c\" }', details={}}.");
+
+		DuplicateFieldException translated = DuplicateFieldException.from(e, "user");
+
+		assertThat(translated.getField()).isEqualTo("email");
+		assertThat(translated.getMessage()).isEqualTo("A user with this email already exists");
+	}
+
+	@Test
+	void stripsDefaultIndexSuffix() {
+		DuplicateKeyException e = new DuplicateKeyException(
+				"E11000 duplicate key error collection: db.caretakers index: email_1 dup key: { email: \"x\" }");
+
+		assertThat(DuplicateFieldException.from(e, "caretaker").getField()).isEqualTo("email");
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private EntityCache entityCache;
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		entityCache = new EntityCache();
+		ReflectionTestUtils.setField(entityCache, "meterRegistry", meterRegistry);
+		ReflectionTestUtils.setField(entityCache, "ttl", Duration.ofMinutes(5));
+		ReflectionTestUtils.setField(entityCache, "maxSize", 100L);
+		ReflectionTestUtils.setField(entityCache, "animalsEnabled", true);
+		ReflectionTestUtils.setField(entityCache, "habitatsEnabled", false);
+		ReflectionTestUtils.setField(entityCache, "caretakersEnabled", true);
+		entityCache.init();
+	}
+
+	@Test
+	void loadsOnceUntilTheEntityChanges() {
+		entityCache.get(Animal.class, "a1", animalLoader());
+		entityCache.get(Animal.class, "a1", animalLoader());
+		assertThat(loads).hasValue(1);
+
+		entityCache.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a1"), EntityChangeEvent.ChangeType.UPDATED));
+		entityCache.get(Animal.class, "a1", animalLoader());
+
+		assertThat(loads).hasValue(2);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "entities.animal").tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void wholeTypeChangeClearsEveryEntry() {
+		entityCache.get(Animal.class, "a1", animalLoader());
+		entityCache.get(Animal.class, "a2", animalLoader());
+
+		entityCache.onEntityChange(new EntityChangeEvent(Animal.class, List.of(), EntityChangeEvent.ChangeType.UPDATED));
+		entityCache.get(Animal.class, "a1", animalLoader());
+		entityCache.get(Animal.class, "a2", animalLoader());
+
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void missingEntitiesAreNotCached() {
+		Function<String, Optional<Animal>> missing = id -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		};
+
+		assertThat(entityCache.get(Animal.class, "gone", missing)).isEmpty();
+		assertThat(entityCache.get(Animal.class, "gone", missing)).isEmpty();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void disabledTypeAlwaysGoesToTheLoader() {
+		Function<String, Optional<Habitat>> loader = id -> {
+			loads.incrementAndGet();
+			return Optional.of(new Habitat());
+		};
+
+		entityCache.get(Habitat.class, "h1", loader);
+		entityCache.get(Habitat.class, "h1", loader);
+
+		assertThat(entityCache.isEnabled(Habitat.class)).isFalse();
+		assertThat(loads).hasValue(2);
+	}
+
+	private Function<String, Optional<Animal>> animalLoader() {
+		return id -> {
+			loads.incrementAndGet();
+			Animal animal = new Animal();
+			animal.setId(id);
+			return Optional.of(animal);
+		};
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityVersionsTest {
+
+	@Test
+	void separatelyBootedNodesDoNotShareVersions() {
+		EntityVersions nodeA = new EntityVersions();
+		EntityVersions nodeB = new EntityVersions();
+		long bootedAt = nodeA.current(Animal.class);
+
+		// Node A takes writes node B never hears about
+		for (int i = 0; i < 1_000; i++) {
+			nodeA.onEntityChange(new EntityChangeEvent(Animal.class, List.of("a" + i), EntityChangeEvent.ChangeType.UPDATED));
+		}
+
+		assertThat(nodeA.current(Animal.class)).isEqualTo(bootedAt + 1_000);
+		assertThat(nodeB.current(Animal.class)).isNotNegative()
+				.satisfies(version -> assertThat(version < bootedAt || version > bootedAt + 1_000).isTrue());
+	}
+}
@@ -0,0 +1,75 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ooad.wildlifeSanctuary.dto.HabitatSummary;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldSelectionsTest {
+
+	private final FieldSelections fieldSelections = new FieldSelections();
+
+	@BeforeEach
+	void setUp() {
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+		ReflectionTestUtils.setField(fieldSelections, "mappingContext", mappingContext);
+		ReflectionTestUtils.setField(fieldSelections, "objectMapper", new ObjectMapper().registerModule(new JavaTimeModule()));
+	}
+
+	@Test
+	void namedFieldsAreProjectedAndShapedWithTheId() {
+		FieldSelection<Animal> selection = fieldSelections.parse(Animal.class, "name, dateOfBirth");
+		Animal animal = new Animal();
+		animal.setId("a1");
+		animal.setName("Kaa");
+		animal.setDescription("Long and heavy");
+		animal.setDateOfBirth(LocalDate.of(2021, 3, 1));
+
+		Document projection = selection.applyTo(new Query()).getFieldsObject();
+
+		assertThat(projection).isEqualTo(new Document("id", 1).append("name", 1).append("dateOfBirth", 1));
+		assertThat((Map<String, Object>) selection.shape(animal))
+				.containsOnlyKeys("id", "name", "dateOfBirth")
+				.containsEntry("name", "Kaa");
+		assertThat(selection.includes("description")).isFalse();
+	}
+
+	@Test
+	void summaryLoadsOnlyTheSummaryFields() {
+		FieldSelection<Habitat> selection = fieldSelections.parse(Habitat.class, "summary");
+		Habitat habitat = new Habitat();
+		habitat.setId("h1");
+		habitat.setName("Savanna");
+
+		assertThat(selection.applyTo(new Query()).getFieldsObject().keySet())
+				.containsExactlyInAnyOrderElementsOf(HabitatSummary.FIELDS);
+		assertThat(selection.includes("animalIds")).isFalse();
+		assertThat(selection.shape(habitat)).isInstanceOf(HabitatSummary.class);
+	}
+
+	@Test
+	void omittedOrUnknownFields() {
+		assertThat(fieldSelections.parse(Animal.class, null).isAll()).isTrue();
+		assertThat(fieldSelections.parse(Animal.class, " ").applyTo(new Query()).getFieldsObject()).isEmpty();
+		assertThatThrownBy(() -> fieldSelections.parse(Animal.class, "name,password"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("password")
+				.hasMessageContaining("healthStatus");
+	}
+}
@@ -0,0 +1,95 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.ooad.wildlifeSanctuary.MongoTestSupport;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import com.ooad.wildlifeSanctuary.repository.AnimalRepository;
+import com.ooad.wildlifeSanctuary.repository.AnimalRepositoryImpl;
+import com.ooad.wildlifeSanctuary.repository.HabitatRepository;
+import com.ooad.wildlifeSanctuary.repository.HabitatRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HabitatServiceTest {
+
+	private final List<String> commands = new CopyOnWriteArrayList<>();
+	private MongoClient client;
+	private MongoTemplate mongoTemplate;
+	private HabitatService habitatService;
+
+	@BeforeEach
+	void setUp() {
+		CommandListener recorder = new CommandListener() {
+			@Override
+			public void commandStarted(CommandStartedEvent event) {
+				commands.add(event.getCommandName());
+			}
+		};
+		client = MongoTestSupport.connectOrSkip(List.of(recorder));
+		mongoTemplate = MongoTestSupport.scratchTemplate(client);
+
+		AnimalService animalService = new AnimalService();
+		ReflectionTestUtils.setField(animalService, "animalRepository",
+				MongoTestSupport.repository(mongoTemplate, AnimalRepository.class, new AnimalRepositoryImpl()));
+		habitatService = new HabitatService();
+		ReflectionTestUtils.setField(habitatService, "habitatRepository",
+				MongoTestSupport.repository(mongoTemplate, HabitatRepository.class, new HabitatRepositoryImpl()));
+		ReflectionTestUtils.setField(habitatService, "animalService", animalService);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (mongoTemplate != null) {
+			mongoTemplate.getDb().drop();
+		}
+		if (client != null) {
+			client.close();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 50, 500})
+	void habitatsWithAnimalsIssuesFixedNumberOfQueries(int habitatCount) {
+		List<Habitat> habitats = new ArrayList<>();
+		for (int i = 0; i < habitatCount; i++) {
+			Habitat habitat = new Habitat();
+			habitat.setName("Habitat " + i);
+			habitats.add(habitat);
+		}
+		habitats = new ArrayList<>(mongoTemplate.insertAll(habitats));
+		String first = habitats.get(0).getId();
+		mongoTemplate.insertAll(List.of(animal("Kaa", first), animal("Nala", first), animal("Stray", null)));
+		commands.clear();
+
+		List<Habitat> result = habitatService.getHabitatsWithAnimals();
+
+		// getMore only fetches further batches of the same two cursors
+		assertThat(commands.stream().filter(command -> !command.equals("getMore")))
+				.containsExactly("find", "aggregate");
+		assertThat(result).hasSize(habitatCount);
+		Habitat withAnimals = result.stream().filter(habitat -> habitat.getId().equals(first)).findFirst().orElseThrow();
+		assertThat(withAnimals.getAnimalIds()).hasSize(2);
+		assertThat(result).filteredOn(habitat -> !habitat.getId().equals(first))
+				.allMatch(habitat -> habitat.getAnimalIds().isEmpty());
+	}
+
+	private static Animal animal(String name, String habitatId) {
+		Animal animal = new Animal();
+		animal.setName(name);
+		animal.setHabitatId(habitatId);
+		return animal;
+	}
+}
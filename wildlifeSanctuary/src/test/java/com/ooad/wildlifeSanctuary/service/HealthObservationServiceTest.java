@@ -0,0 +1,107 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.HealthReading;
+import com.ooad.wildlifeSanctuary.repository.HealthObservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HealthObservationServiceTest {
+
+	private static final Instant NOW = Instant.parse("2024-05-03T10:15:00Z");
+
+	@Mock
+	private HealthObservationRepository observationRepository;
+
+	@Mock
+	private AnimalService animalService;
+
+	@InjectMocks
+	private HealthObservationService observationService;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(observationService, "clock", Clock.fixed(NOW, ZoneOffset.UTC));
+		ReflectionTestUtils.setField(observationService, "bucketCapacity", 200);
+		ReflectionTestUtils.setField(observationService, "maxReadings", 100);
+		ReflectionTestUtils.setField(observationService, "maxIntervals", 1000);
+	}
+
+	@Test
+	void readingStatusIsAppliedAsOfTheReadingTime() {
+		when(animalService.getAnimalById("a1")).thenReturn(Optional.of(new Animal()));
+
+		HealthReading recorded = observationService.record("a1", reading(null, "Sick"), "keeper").orElseThrow();
+
+		assertThat(recorded.getAt()).isEqualTo(NOW);
+		assertThat(recorded.getRecordedBy()).isEqualTo("keeper");
+		verify(observationRepository).append(eq("a1"), eq(Instant.parse("2024-05-03T00:00:00Z")), eq(recorded), eq(200));
+		verify(animalService).applyHealthStatus("a1", "Sick", NOW);
+	}
+
+	@Test
+	void readingWithoutStatusLeavesTheAnimalAlone() {
+		when(animalService.getAnimalById("a1")).thenReturn(Optional.of(new Animal()));
+
+		observationService.record("a1", reading(NOW.minus(Duration.ofDays(1)), null), "keeper");
+
+		verify(observationRepository).append(anyString(), any(), any(), anyInt());
+		verify(animalService, never()).applyHealthStatus(anyString(), any(), any());
+	}
+
+	@Test
+	void rejectsReadingsForUnknownAnimalsOrFromTheFuture() {
+		when(animalService.getAnimalById("missing")).thenReturn(Optional.empty());
+		when(animalService.getAnimalById("a1")).thenReturn(Optional.of(new Animal()));
+
+		assertThat(observationService.record("missing", reading(null, "Sick"), "keeper")).isEmpty();
+		assertThatThrownBy(() -> observationService.record("a1", reading(NOW.plus(Duration.ofHours(1)), "Sick"), "keeper"))
+				.isInstanceOf(IllegalArgumentException.class);
+		verifyNoInteractions(observationRepository);
+	}
+
+	@Test
+	void dayAlignedSummariesUseTheBucketStats() {
+		Instant from = Instant.parse("2024-04-01T00:00:00Z");
+		Instant to = Instant.parse("2024-05-01T00:00:00Z");
+
+		observationService.summarize("a1", from, to, "P1D");
+		observationService.summarize("a1", from.plus(Duration.ofHours(6)), to, "P1D");
+		observationService.summarize("a1", from, to, "PT6H");
+
+		verify(observationRepository).summarizeDays("a1", from, to, Duration.ofDays(1));
+		verify(observationRepository).summarize("a1", from.plus(Duration.ofHours(6)), to, Duration.ofDays(1));
+		verify(observationRepository).summarize("a1", from, to, Duration.ofHours(6));
+		assertThatThrownBy(() -> observationService.summarize("a1", from, to, "PT1M"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("intervals");
+	}
+
+	private static HealthReading reading(Instant at, String healthStatus) {
+		HealthReading reading = new HealthReading();
+		reading.setAt(at);
+		reading.setWeight(42.0);
+		reading.setHealthStatus(healthStatus);
+		return reading;
+	}
+}
@@ -0,0 +1,101 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ooad.wildlifeSanctuary.model.Animal;
+import com.ooad.wildlifeSanctuary.model.Habitat;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class PartialUpdaterTest {
+
+	private PartialUpdater partialUpdater;
+
+	@BeforeEach
+	void setUp() {
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.afterPropertiesSet();
+		partialUpdater = new PartialUpdater();
+		ReflectionTestUtils.setField(partialUpdater, "mongoTemplate", new MongoTemplate(mock(MongoDatabaseFactory.class), converter));
+		ReflectionTestUtils.setField(partialUpdater, "mappingContext", mappingContext);
+		ReflectionTestUtils.setField(partialUpdater, "objectMapper", objectMapper);
+	}
+
+	@Test
+	void setsSuppliedFieldsAndUnsetsNulls() {
+		Map<String, Object> changes = new HashMap<>();
+		changes.put("healthStatus", "Recovering");
+		changes.put("dateOfBirth", "2021-03-04");
+		changes.put("description", null);
+
+		Update update = partialUpdater.toUpdate(Animal.class, changes, Set.of());
+		Document updateObject = update.getUpdateObject();
+
+		assertThat(updateObject.get("$set", Document.class))
+				.containsEntry("healthStatus", "Recovering")
+				.containsEntry("dateOfBirth", LocalDate.of(2021, 3, 4))
+				.hasSize(2);
+		assertThat(updateObject.get("$unset", Document.class)).containsOnlyKeys("description");
+	}
+
+	@Test
+	void rejectsIdUnknownAndProtectedFields() {
+		assertThatThrownBy(() -> partialUpdater.toUpdate(Animal.class, Map.of("id", "x"), Set.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> partialUpdater.toUpdate(Animal.class, Map.of("colour", "red"), Set.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> partialUpdater.toUpdate(Animal.class, Map.of("name", "Rex"), Set.of("name")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void refusesToUnsetPrimitiveFields() {
+		Map<String, Object> changes = new HashMap<>();
+		changes.put("area", null);
+
+		assertThatThrownBy(() -> partialUpdater.toUpdate(Habitat.class, changes, Set.of()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void replacementKeepsPreservedFields() {
+		Habitat habitat = new Habitat();
+		habitat.setId("h1");
+		habitat.setName("Wetland");
+		habitat.setCapacity(12);
+		habitat.setOccupancy(3);
+
+		Document updateObject = partialUpdater.toReplacement(habitat, Set.of("occupancy")).getUpdateObject();
+
+		assertThat(updateObject.get("$set", Document.class))
+				.containsEntry("name", "Wetland")
+				.containsEntry("capacity", 12)
+				.doesNotContainKeys("_id", "occupancy");
+		assertThat(updateObject.get("$unset", Document.class))
+				.containsKeys("description", "animalIds")
+				.doesNotContainKeys("occupancy");
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.ooad.wildlifeSanctuary.service;
+
+import com.ooad.wildlifeSanctuary.model.User;
+import com.ooad.wildlifeSanctuary.repository.UserRepository;
+import com.ooad.wildlifeSanctuary.security.UserDetailsCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private PasswordEncoder passwordEncoder;
+
+	@Mock
+	private UserDetailsCache userDetailsCache;
+
+	@Mock
+	private EntityChanges entityChanges;
+
+	@InjectMocks
+	private UserService userService;
+
+	@Test
+	void takenUsernameIsRejectedBeforeHashing() {
+		when(userRepository.findByUsername("keeper")).thenReturn(Optional.of(new User()));
+
+		assertThatThrownBy(() -> userService.createUser(user("keeper", "keeper@example.org")))
+				.isInstanceOfSatisfying(DuplicateFieldException.class,
+						e -> assertThat(e.getField()).isEqualTo("username"));
+		verifyNoInteractions(passwordEncoder);
+		verify(userRepository, never()).insert(any(User.class));
+	}
+
+	@Test
+	void concurrentDuplicateIsStillCaughtByTheUniqueIndex() {
+		when(userRepository.findByUsername("keeper")).thenReturn(Optional.empty());
+		when(userRepository.findByEmail("keeper@example.org")).thenReturn(Optional.empty());
+		when(passwordEncoder.encode("secret")).thenReturn("hash");
+		when(userRepository.insert(any(User.class))).thenThrow(new DuplicateKeyException(
+				"E11000 duplicate key error collection: sanctuary.users index: username dup key: { username: \"keeper\" }"));
+
+		assertThatThrownBy(() -> userService.createUser(user("keeper", "keeper@example.org")))
+				.isInstanceOfSatisfying(DuplicateFieldException.class,
+						e -> assertThat(e.getField()).isEqualTo("username"));
+		verifyNoInteractions(entityChanges);
+	}
+
+	private static User user(String username, String email) {
+		User user = new User();
+		user.setUsername(username);
+		user.setEmail(email);
+		user.setPassword("secret");
+		return user;
+	}
+}